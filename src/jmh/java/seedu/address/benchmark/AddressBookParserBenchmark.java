@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing command text with {@code AddressBookParser}, for commands of different lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookParserBenchmark {
+
+    /** Number of subjects given to the add_student command. */
+    @Param({"1", "10", "100"})
+    private int subjectCount;
+
+    private AddressBookParser parser;
+    private String addStudentCommand;
+
+    /**
+     * Builds an add_student command with {@code subjectCount} subjects.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkData.quietLogging();
+        parser = new AddressBookParser();
+        addStudentCommand = AddStudentCommand.COMMAND_WORD + " " + PREFIX_NAME + "Benchmark Student "
+                + PREFIX_PHONE + "99999999 " + PREFIX_EMAIL + "benchmark@example.com "
+                + PREFIX_ADDRESS + "Block 1, Clementi Ave 3" + subjects(subjectCount);
+    }
+
+    @Benchmark
+    public Command parseAddStudent() throws ParseException {
+        return parser.parseCommand(addStudentCommand);
+    }
+
+    @Benchmark
+    public Command parseListStudents() throws ParseException {
+        return parser.parseCommand(ListStudentsCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Returns {@code count} distinct subject arguments.
+     */
+    static String subjects(int count) {
+        StringBuilder subjects = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            subjects.append(' ').append(PREFIX_SUBJECT).append("CS").append(1000 + i);
+        }
+        return subjects.toString();
+    }
+}
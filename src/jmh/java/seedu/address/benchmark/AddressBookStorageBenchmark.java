@@ -0,0 +1,130 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Student;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.StreamingJsonAddressBookStorage;
+
+/**
+ * Benchmarks reading and writing the data file with each of the address book storages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookStorageBenchmark {
+
+    /**
+     * The address book storages, named after their classes.
+     */
+    public enum StorageKind {
+        JSON, STREAMING_JSON, JOURNALED, BINARY
+    }
+
+    /** Number of students, and of lessons, in the data file. */
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"JSON", "STREAMING_JSON", "JOURNALED", "BINARY"})
+    private StorageKind storageKind;
+
+    private Path folder;
+    private AddressBookStorage storage;
+    private ModelManager model;
+
+    /**
+     * Writes a data file with {@code size} students and lessons to a new temporary folder, and reads it back into
+     * a model whose changes are saved by {@link #writeChanges()}.
+     */
+    @Setup
+    public void setUp() throws IOException, DataLoadingException {
+        BenchmarkData.quietLogging();
+        folder = Files.createTempDirectory("tutortrack-benchmark");
+        storage = createStorage(storageKind, folder.resolve("tutortrack.json"));
+        storage.saveAddressBook(BenchmarkData.addressBook(size));
+        model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+    }
+
+    private static AddressBookStorage createStorage(StorageKind storageKind, Path filePath) {
+        switch (storageKind) {
+        case JSON:
+            return new JsonAddressBookStorage(filePath);
+        case STREAMING_JSON:
+            return new StreamingJsonAddressBookStorage(filePath);
+        case JOURNALED:
+            return new JournaledAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath));
+        default:
+            throw new AssertionError("Unknown storage kind " + storageKind);
+        }
+    }
+
+    /**
+     * Waits for any compaction of the journal to finish, then deletes the temporary folder and everything in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        if (storage instanceof JournaledAddressBookStorage) {
+            JournaledAddressBookStorage journaledStorage = (JournaledAddressBookStorage) storage;
+            journaledStorage.awaitCompaction();
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        storage.saveAddressBook(model.getAddressBook());
+    }
+
+    /**
+     * Edits the address of one student and saves the change, as a command would. Only the journaled storage saves
+     * just the change; the others write the whole address book.
+     */
+    @Benchmark
+    public void writeChanges() throws IOException {
+        Student student = model.getAddressBook().getStudentList().get(0);
+        Address address = new Address(student.getAddress().value.endsWith("#") ? "Block 1" : "Block 1#");
+        model.setStudent(student, new Student(student.getName(), student.getPhone(), student.getEmail(), address,
+                student.getSubjects(), student.getAssignments()));
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+    }
+}
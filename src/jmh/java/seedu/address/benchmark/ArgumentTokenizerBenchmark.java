@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+
+/**
+ * Benchmarks splitting the arguments of an add_student command into their prefixes with
+ * {@code ArgumentTokenizer}, for argument strings of different lengths, against the earlier
+ * {@link IndexOfArgumentTokenizer} as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArgumentTokenizerBenchmark {
+
+    /** Number of subjects in the arguments. */
+    @Param({"1", "10", "100", "1000"})
+    private int subjectCount;
+
+    private String arguments;
+
+    /**
+     * Builds the arguments of an add_student command with {@code subjectCount} subjects.
+     */
+    @Setup
+    public void setUp() {
+        arguments = " " + PREFIX_NAME + "Benchmark Student " + PREFIX_PHONE + "99999999 "
+                + PREFIX_EMAIL + "benchmark@example.com " + PREFIX_ADDRESS + "Block 1, Clementi Ave 3"
+                + AddressBookParserBenchmark.subjects(subjectCount);
+    }
+
+    /**
+     * Tokenizes the arguments with the prefixes of the add_student command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_SUBJECT);
+    }
+
+    /**
+     * Tokenizes the same arguments with the earlier tokenizer.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeBaseline() {
+        return IndexOfArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_SUBJECT);
+    }
+}
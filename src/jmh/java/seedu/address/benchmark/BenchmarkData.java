@@ -0,0 +1,98 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.datetimeutil.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Builds the data that the benchmarks run on.
+ * The same arguments always give the same data, so that results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    public static final Subject SUBJECT = new Subject("CS2103T");
+
+    private static final long FIRST_LESSON_DAY = new Date("01-01-2030").toEpochDay();
+    private static final int FIRST_LESSON_MINUTE = 8 * 60;
+    private static final int LESSONS_PER_DAY = 20;
+    private static final int MINUTES_BETWEEN_LESSONS = 30;
+
+    private BenchmarkData() {}
+
+    /**
+     * Stops the application's loggers from logging below warnings, so that logging does not dominate the results.
+     */
+    public static void quietLogging() {
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns the {@code index}th student, whose name, phone and email differ from those of every other student.
+     */
+    public static Student student(int index) {
+        UniqueAssignmentList assignments = new UniqueAssignmentList();
+        assignments.add(new Assignment("Essay", Date.ofEpochDay(FIRST_LESSON_DAY + index % 100)));
+        return new Student(new Name("Student " + index), new Phone(String.valueOf(80000000 + index)),
+                new Email("student" + index + "@example.com"), new Address("Block " + index + ", Clementi Ave 3"),
+                Set.of(SUBJECT), assignments);
+    }
+
+    /**
+     * Returns {@code count} students made by {@link #student(int)}.
+     */
+    public static List<Student> students(int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the {@code index}th lesson, for the {@code index}th student, in a time slot of its own.
+     */
+    public static Lesson lesson(int index) {
+        return new Lesson(SUBJECT, new Name("Student " + index),
+                Date.ofEpochDay(FIRST_LESSON_DAY + index / LESSONS_PER_DAY),
+                Time.ofMinuteOfDay(FIRST_LESSON_MINUTE + index % LESSONS_PER_DAY * MINUTES_BETWEEN_LESSONS));
+    }
+
+    /**
+     * Returns {@code count} lessons made by {@link #lesson(int)}.
+     */
+    public static List<Lesson> lessons(int count) {
+        List<Lesson> lessons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lessons.add(lesson(i));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns an address book with {@code size} students, each with one lesson.
+     */
+    public static AddressBook addressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setStudents(students(size));
+        addressBook.setLessons(lessons(size));
+        return addressBook;
+    }
+}
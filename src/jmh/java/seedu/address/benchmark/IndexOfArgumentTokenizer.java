@@ -0,0 +1,75 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * The earlier {@link ArgumentTokenizer}, kept as a baseline for {@link ArgumentTokenizerBenchmark}.
+ * It searches the whole arguments string with {@code indexOf} once for each prefix, sorts the positions found,
+ * and then cuts out the values and collapses their whitespace with a regular expression.
+ */
+class IndexOfArgumentTokenizer {
+
+    /**
+     * Tokenizes {@code argsString} like {@link ArgumentTokenizer#tokenize(String, Prefix...)}.
+     */
+    static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        List<PrefixPosition> positions = Arrays.stream(prefixes)
+                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                .collect(Collectors.toList());
+        return extractArguments(argsString, positions);
+    }
+
+    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+        List<PrefixPosition> positions = new ArrayList<>();
+
+        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+        while (prefixPosition != -1) {
+            positions.add(new PrefixPosition(prefix, prefixPosition));
+            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        }
+
+        return positions;
+    }
+
+    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+        return prefixIndex == -1 ? -1
+                : prefixIndex + 1; // +1 as offset for whitespace
+    }
+
+    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+        prefixPositions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+        prefixPositions.add(0, new PrefixPosition(new Prefix(""), 0));
+        prefixPositions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < prefixPositions.size() - 1; i++) {
+            PrefixPosition current = prefixPositions.get(i);
+            int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+            String value = argsString.substring(valueStartPos, prefixPositions.get(i + 1).startPosition);
+            argMultimap.put(current.prefix, value.trim().replaceAll("\\s+", " "));
+        }
+
+        return argMultimap;
+    }
+
+    /**
+     * Represents a prefix's position in an arguments string.
+     */
+    private static class PrefixPosition {
+        private final Prefix prefix;
+        private final int startPosition;
+
+        PrefixPosition(Prefix prefix, int startPosition) {
+            this.prefix = prefix;
+            this.startPosition = startPosition;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.AddressBookLoader;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.FindStudentCommand;
+import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Benchmarks executing commands end to end with {@code LogicManager}, from parsing the command text to saving
+ * the address book. The storage is set up the way the app sets it up, so saves are written on a background
+ * thread by {@code WriteBehindStorage}, and the JSON data file is journaled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LogicManagerBenchmark {
+
+    private static final String ADD_STUDENT_COMMAND = AddStudentCommand.COMMAND_WORD
+            + " n/Benchmark Student p/99999999 e/benchmark@example.com a/Block 1, Clementi Ave 3 s/"
+            + BenchmarkData.SUBJECT.subjectName;
+
+    /** Number of students, and of lessons, in the address book. */
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"JSON", "BINARY"})
+    private AddressBookFormat format;
+
+    private Path folder;
+    private AddressBookStorage addressBookStorage;
+    private WriteBehindStorage storage;
+    private LogicManager logic;
+    private String findStudentCommand;
+    private String deleteAddedStudentCommand;
+
+    /**
+     * Writes a data file with {@code size} students and lessons in {@code format} to a new temporary folder, and
+     * sets up a {@code LogicManager} on the address book read back from it.
+     */
+    @Setup
+    public void setUp() throws IOException, DataLoadingException {
+        BenchmarkData.quietLogging();
+        folder = Files.createTempDirectory("tutortrack-benchmark");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("tutortrack.json"));
+        userPrefs.setAddressBookFormat(format);
+        addressBookStorage = AddressBookLoader.of(new Config(), userPrefs).getAddressBookStorage();
+        addressBookStorage.saveAddressBook(BenchmarkData.addressBook(size));
+
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(folder.resolve("preferences.json"))));
+        ReadOnlyAddressBook addressBook = AddressBookLoader.loadAddressBook(storage).get();
+        logic = new LogicManager(new ModelManager(addressBook, userPrefs), storage);
+        findStudentCommand = FindStudentCommand.COMMAND_WORD + " " + size / 2;
+        deleteAddedStudentCommand = DeleteStudentCommand.COMMAND_WORD + " " + (size + 1);
+    }
+
+    /**
+     * Waits for the background writes to finish, then deletes the temporary folder and everything in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        storage.shutdown();
+        if (addressBookStorage instanceof JournaledAddressBookStorage) {
+            JournaledAddressBookStorage journaledStorage = (JournaledAddressBookStorage) addressBookStorage;
+            journaledStorage.awaitCompaction();
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public CommandResult listStudents() throws CommandException, ParseException {
+        return logic.execute(ListStudentsCommand.COMMAND_WORD);
+    }
+
+    @Benchmark
+    public CommandResult findStudent() throws CommandException, ParseException {
+        return logic.execute(findStudentCommand);
+    }
+
+    /**
+     * Adds a student and deletes it again, so that the address book is the same after every invocation.
+     * Both commands save the address book, but only hand the save over to the background thread, as in the app.
+     */
+    @Benchmark
+    public CommandResult addAndDeleteStudent() throws CommandException, ParseException {
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+        logic.execute(ADD_STUDENT_COMMAND);
+        return logic.execute(deleteAddedStudentCommand);
+    }
+
+    /**
+     * Same as {@link #addAndDeleteStudent()}, but also waits for the saves to be written to the data file.
+     */
+    @Benchmark
+    public CommandResult addAndDeleteStudentWritten() throws CommandException, ParseException {
+        CommandResult result = addAndDeleteStudent();
+        storage.flush();
+        return result;
+    }
+}
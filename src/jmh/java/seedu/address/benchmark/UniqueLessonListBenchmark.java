@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.student.Name;
+
+/**
+ * Benchmarks checking a lesson for clashes against a {@code UniqueLessonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueLessonListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private UniqueLessonList lessonList;
+    private Lesson clashingLesson;
+    private Lesson freeLesson;
+
+    /**
+     * Fills the list with {@code size} lessons, each in a time slot of its own.
+     */
+    @Setup
+    public void setUp() {
+        lessonList = new UniqueLessonList();
+        lessonList.setLessons(BenchmarkData.lessons(size));
+        Lesson scheduledLesson = BenchmarkData.lesson(size / 2);
+        clashingLesson = new Lesson(scheduledLesson.getSubject(), new Name("Someone Else"),
+                scheduledLesson.getDate(), scheduledLesson.getTime());
+        freeLesson = BenchmarkData.lesson(size);
+    }
+
+    @Benchmark
+    public boolean clashesWithScheduledLesson() {
+        return lessonList.clashes(clashingLesson);
+    }
+
+    @Benchmark
+    public boolean clashesWithFreeSlot() {
+        return lessonList.clashes(freeLesson);
+    }
+}
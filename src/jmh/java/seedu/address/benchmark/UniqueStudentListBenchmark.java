@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.student.UniqueStudentList;
+
+/**
+ * Benchmarks adding students to, and looking students up in, a {@code UniqueStudentList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueStudentListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<Student> students;
+    private UniqueStudentList studentList;
+    private Student presentStudent;
+    private Student absentStudent;
+
+    /**
+     * Fills the list with {@code size} students.
+     */
+    @Setup
+    public void setUp() {
+        students = BenchmarkData.students(size);
+        studentList = new UniqueStudentList();
+        studentList.setStudents(students);
+        presentStudent = students.get(size / 2);
+        absentStudent = BenchmarkData.student(size);
+    }
+
+    /**
+     * Adds {@code size} students one at a time to an empty list.
+     */
+    @Benchmark
+    public UniqueStudentList add() {
+        UniqueStudentList newStudentList = new UniqueStudentList();
+        for (Student student : students) {
+            newStudentList.add(student);
+        }
+        return newStudentList;
+    }
+
+    @Benchmark
+    public boolean containsPresentStudent() {
+        return studentList.contains(presentStudent);
+    }
+
+    @Benchmark
+    public boolean containsAbsentStudent() {
+        return studentList.contains(absentStudent);
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+
+/**
+ * Sets up the storage of the address book data file and reads it, the same way for {@link MainApp},
+ * {@link HeadlessMain}, {@link RunScript} and the benchmarks.
+ *
+ * The data file is the one in the preferences, in the format chosen there, unless another data file is given.
+ * If there is no data file in the chosen format yet, but there is one in the other format, it is converted.
+ */
+public class AddressBookLoader {
+
+    public static final String CONVERTED_FILE_SUFFIX = ".converted";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final AddressBookStorage addressBookStorage;
+    // The storage of the data file in the other format, or null if the data file was given
+    private final AddressBookStorage otherFormatStorage;
+
+    private AddressBookLoader(AddressBookStorage addressBookStorage, AddressBookStorage otherFormatStorage) {
+        this.addressBookStorage = addressBookStorage;
+        this.otherFormatStorage = otherFormatStorage;
+    }
+
+    /**
+     * Returns an {@code AddressBookLoader} for the data file in {@code userPrefs}, in the format chosen there.
+     */
+    public static AddressBookLoader of(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = createJsonStorage(config, jsonFilePath);
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        return userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY
+                ? new AddressBookLoader(binaryStorage, jsonStorage)
+                : new AddressBookLoader(jsonStorage, binaryStorage);
+    }
+
+    /**
+     * Returns an {@code AddressBookLoader} for the data file at {@code dataPath}, which is in the binary format if
+     * its name ends in {@link BinaryAddressBookStorage#FILE_EXTENSION}, or else in JSON.
+     * As there is no other format of a data file that is given this way, nothing is ever converted.
+     */
+    public static AddressBookLoader ofDataFile(Config config, Path dataPath) {
+        AddressBookStorage addressBookStorage = dataPath.toString().endsWith(BinaryAddressBookStorage.FILE_EXTENSION)
+                ? new BinaryAddressBookStorage(dataPath)
+                : createJsonStorage(config, dataPath);
+        return new AddressBookLoader(addressBookStorage, null);
+    }
+
+    private static AddressBookStorage createJsonStorage(Config config, Path filePath) {
+        return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD,
+                config.isParallelLoading());
+    }
+
+    /**
+     * Returns the storage of the data file in the chosen format.
+     */
+    public AddressBookStorage getAddressBookStorage() {
+        return addressBookStorage;
+    }
+
+    /**
+     * Converts the data file in the other format to the chosen format if there is no data file in the chosen
+     * format yet, but there is one in the other format.
+     * The converted data is written straight to the data file, so it should be called before the data file is read.
+     */
+    public void convertFromOtherFormat() {
+        if (otherFormatStorage != null && !Files.exists(addressBookStorage.getAddressBookFilePath())
+                && Files.exists(otherFormatStorage.getAddressBookFilePath())) {
+            convertAddressBook(otherFormatStorage, addressBookStorage);
+        }
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target}, then moves the data file of {@code source} aside,
+     * so that switching back to its format later converts the data saved in the meantime instead of reading the
+     * old file. If that fails, {@code target} is left as it is and the failure is only logged.
+     */
+    private static void convertAddressBook(AddressBookStorage source, AddressBookStorage target) {
+        logger.info("Converting data file " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = source.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                target.saveAddressBook(addressBookOptional.get());
+                retireDataFile(source.getAddressBookFilePath());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert data file " + source.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Renames the data file at {@code filePath}, along with its journal if it has one, by adding
+     * {@link #CONVERTED_FILE_SUFFIX}. The data file is moved first, as a journal without its data file is never read.
+     */
+    private static void retireDataFile(Path filePath) throws IOException {
+        Path retiredFilePath = filePath.resolveSibling(filePath.getFileName() + CONVERTED_FILE_SUFFIX);
+        FileUtil.moveAtomically(filePath, retiredFilePath);
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        if (Files.exists(journalPath)) {
+            FileUtil.moveAtomically(journalPath, JournaledAddressBookStorage.getJournalFilePath(retiredFilePath));
+        }
+        logger.info("Moved converted data file " + filePath + " to " + retiredFilePath);
+    }
+
+    /**
+     * Returns the address book in {@code storage}'s data file, which must be the data file of this loader. <br>
+     * If the data file is not found or cannot be read, the previous copy of it kept by the last save is used
+     * instead. Returns {@code Optional.empty()} if neither is found.
+     *
+     * @throws DataLoadingException if the data file cannot be read, and neither can its previous copy.
+     */
+    public static Optional<ReadOnlyAddressBook> loadAddressBook(AddressBookStorage storage)
+            throws DataLoadingException {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        try {
+            addressBookOptional = storage.readAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be trying its previous copy.");
+            addressBookOptional = recoverAddressBook(storage);
+            if (!addressBookOptional.isPresent()) {
+                throw e;
+            }
+            return addressBookOptional;
+        }
+
+        if (!addressBookOptional.isPresent()) {
+            // the data file may have been lost, e.g. deleted by hand, while its previous copy was kept
+            addressBookOptional = recoverAddressBook(storage);
+        }
+        return addressBookOptional;
+    }
+
+    /**
+     * Returns the address book in the copy of {@code storage}'s data file that was replaced by the last save,
+     * or {@code Optional.empty()} if there is no such copy or it cannot be read either.
+     */
+    private static Optional<ReadOnlyAddressBook> recoverAddressBook(AddressBookStorage storage) {
+        Path backupFilePath = FileUtil.getBackupPath(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook(backupFilePath);
+            if (addressBookOptional.isPresent()) {
+                logger.warning("Recovered the address book from its previous copy at " + backupFilePath);
+            }
+            return addressBookOptional;
+        } catch (DataLoadingException e) {
+            logger.warning("Previous copy at " + backupFilePath + " could not be loaded.");
+            return Optional.empty();
+        }
+    }
+}
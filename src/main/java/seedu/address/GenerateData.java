@@ -0,0 +1,176 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.StreamingJsonAddressBookStorage;
+
+/**
+ * Writes a synthetic address book of any size to a data file, for benchmarks and load tests.
+ *
+ * Usage: {@code GenerateData --output FILE [--students N] [--lessons M] [--assignments K] [--seed S]
+ * [--format json|binary]}. Without {@code --format}, files ending in {@code .bin} are written in the binary
+ * format and all others as JSON. The records are generated as they are written, so that even millions of
+ * them do not have to fit in memory.
+ */
+public class GenerateData {
+
+    public static final String MESSAGE_USAGE = "Usage: GenerateData --output FILE [--students N] [--lessons M]"
+            + " [--assignments K] [--seed S] [--format json|binary]";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option: %s";
+    public static final String MESSAGE_MISSING_VALUE = "Option %s needs a value.";
+    public static final String MESSAGE_INVALID_NUMBER = "Option %s needs a number, but was given: %s";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Format should be json or binary, but was given: %s";
+    public static final String MESSAGE_MISSING_OUTPUT = "The file to write to must be given with --output.";
+
+    private static final int DEFAULT_STUDENT_COUNT = 1000;
+    private static final int DEFAULT_ASSIGNMENTS_PER_STUDENT = 3;
+    private static final long DEFAULT_SEED = 2103;
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateData.class);
+
+    private Path outputPath;
+    private int studentCount = DEFAULT_STUDENT_COUNT;
+    private Integer lessonCount;
+    private int assignmentsPerStudent = DEFAULT_ASSIGNMENTS_PER_STUDENT;
+    private long seed = DEFAULT_SEED;
+    private String format;
+
+    public static void main(String[] args) {
+        try {
+            parse(args).run();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            logger.severe("Could not write the address book: " + e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the command-line arguments of {@link #main(String[])}.
+     *
+     * @throws IllegalArgumentException if the arguments are not valid.
+     */
+    static GenerateData parse(String... args) {
+        GenerateData generateData = new GenerateData();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, option));
+            }
+            String value = args[i + 1];
+            switch (option) {
+            case "--output":
+                generateData.outputPath = Paths.get(value);
+                break;
+            case "--students":
+                generateData.studentCount = parseCount(option, value);
+                break;
+            case "--lessons":
+                generateData.lessonCount = parseCount(option, value);
+                break;
+            case "--assignments":
+                generateData.assignmentsPerStudent = parseCount(option, value);
+                break;
+            case "--seed":
+                generateData.seed = parseSeed(option, value);
+                break;
+            case "--format":
+                if (!value.equals("json") && !value.equals("binary")) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_FORMAT, value));
+                }
+                generateData.format = value;
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, option));
+            }
+        }
+
+        if (generateData.outputPath == null) {
+            throw new IllegalArgumentException(MESSAGE_MISSING_OUTPUT);
+        }
+        return generateData;
+    }
+
+    private static int parseCount(String option, String value) {
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(String.format(MESSAGE_INVALID_NUMBER, option, value));
+    }
+
+    private static long parseSeed(String option, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_NUMBER, option, value));
+        }
+    }
+
+    Path getOutputPath() {
+        return outputPath;
+    }
+
+    /**
+     * Returns the number of lessons to generate, which is one per student unless given.
+     */
+    int getLessonCount() {
+        return lessonCount != null ? lessonCount : studentCount;
+    }
+
+    /**
+     * Returns true if the address book is to be written in the binary format.
+     */
+    boolean isBinary() {
+        return format != null
+                ? format.equals("binary")
+                : outputPath.toString().endsWith(BinaryAddressBookStorage.FILE_EXTENSION);
+    }
+
+    /**
+     * Generates the address book and writes it to the output file.
+     *
+     * @throws IllegalArgumentException if the counts cannot be generated.
+     */
+    void run() throws IOException {
+        ReadOnlyAddressBook addressBook = new SyntheticDataGenerator(seed)
+                .generate(studentCount, getLessonCount(), assignmentsPerStudent);
+        AddressBookStorage storage = isBinary()
+                ? new BinaryAddressBookStorage(outputPath)
+                : new StreamingJsonAddressBookStorage(outputPath);
+
+        logger.info("Writing " + this + " to " + outputPath);
+        long start = System.nanoTime();
+        storage.saveAddressBook(addressBook);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info(String.format("Wrote %d students and %d lessons in %d ms", studentCount, getLessonCount(),
+                elapsedMillis));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("students", studentCount)
+                .add("lessons", getLessonCount())
+                .add("assignmentsPerStudent", assignmentsPerStudent)
+                .add("seed", seed)
+                .add("format", isBinary() ? "binary" : "json")
+                .toString();
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs TutorTrack without a window, for scheduled jobs and benchmarks on machines with no display.
+ *
+ * Usage: {@code HeadlessMain [--commands FILE] [--data FILE] [--config FILE]}. Commands are read one per line
+ * from the given file, or else from standard input, and each is run and saved like a command typed into the
+ * window. Their feedback is printed to standard output and their errors to standard error. Blank lines and lines
+ * starting with {@code #} are skipped, and {@code exit} stops reading. The config file is {@code config.json}
+ * unless {@code --config} is given. Without {@code --data}, the data file and its format are the ones in the
+ * preferences, and the data file is converted from the other format or recovered from its previous copy as in
+ * {@link MainApp}; data files ending in {@code .bin} are read and written in the binary format, and all others as
+ * JSON. A data file that does not exist yet starts out empty.
+ *
+ * Only the model and logic are set up, so the JavaFX toolkit is never started.
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--commands FILE] [--data FILE] [--config FILE]";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option: %s";
+    public static final String MESSAGE_MISSING_VALUE = "Option %s needs a value.";
+    public static final String MESSAGE_DATA_NOT_LOADED = "Could not read the data file %s, so it was not changed: %s";
+    public static final String MESSAGE_COMMANDS_NOT_READ = "Could not read the commands from %s: %s";
+
+    /** Exit status when every command succeeded. */
+    static final int EXIT_SUCCESS = 0;
+    /** Exit status when a command failed, or TutorTrack could not start. */
+    static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private Path commandsPath;
+    private Path dataPath;
+    private Path configPath;
+
+    public static void main(String[] args) {
+        HeadlessMain headlessMain;
+        try {
+            headlessMain = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_FAILURE);
+            return;
+        }
+
+        int status;
+        try {
+            Logic logic = initLogic(headlessMain.configPath, headlessMain.dataPath);
+            status = headlessMain.commandsPath == null
+                    ? run(logic, new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                            System.out, System.err)
+                    : runFile(logic, headlessMain.commandsPath, System.out, System.err);
+        } catch (CommandException e) {
+            System.err.println(e.getMessage());
+            status = EXIT_FAILURE;
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_COMMANDS_NOT_READ, "standard input", e.getMessage()));
+            status = EXIT_FAILURE;
+        }
+        System.exit(status);
+    }
+
+    /**
+     * Parses the command-line arguments of {@link #main(String[])}.
+     *
+     * @throws IllegalArgumentException if the arguments are not valid.
+     */
+    static HeadlessMain parse(String... args) {
+        HeadlessMain headlessMain = new HeadlessMain();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, option));
+            }
+            String value = args[i + 1];
+            switch (option) {
+            case "--commands":
+                headlessMain.commandsPath = Paths.get(value);
+                break;
+            case "--data":
+                headlessMain.dataPath = Paths.get(value);
+                break;
+            case "--config":
+                headlessMain.configPath = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, option));
+            }
+        }
+        return headlessMain;
+    }
+
+    Path getCommandsPath() {
+        return commandsPath;
+    }
+
+    Path getDataPath() {
+        return dataPath;
+    }
+
+    Path getConfigPath() {
+        return configPath;
+    }
+
+    /**
+     * Returns a {@code LogicManager} over the data file at {@code dataPath}, or the one in the preferences if it is
+     * null, set up from the config file at {@code configPath}, or the default one if it is null, and the
+     * preferences file like {@link MainApp} does, but without any UI.
+     *
+     * @throws CommandException if the data file cannot be read.
+     */
+    static LogicManager initLogic(Path configPath, Path dataPath) throws CommandException {
+        Path configFilePath = configPath != null ? configPath : Config.DEFAULT_CONFIG_FILE;
+        Config config = new Config();
+        try {
+            config = ConfigUtil.readConfig(configFilePath).orElse(config);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
+                    + " Using default config properties.");
+        }
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = new UserPrefs();
+        try {
+            userPrefs = userPrefsStorage.readUserPrefs().orElse(userPrefs);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file could not be loaded. Using default preferences.");
+        }
+        AddressBookLoader addressBookLoader = dataPath != null
+                ? AddressBookLoader.ofDataFile(config, dataPath)
+                : AddressBookLoader.of(config, userPrefs);
+        addressBookLoader.convertFromOtherFormat();
+        Storage storage = new StorageManager(addressBookLoader.getAddressBookStorage(), userPrefsStorage);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = AddressBookLoader.loadAddressBook(storage).orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            // Saving over a data file that could not be read would lose what is in it
+            throw new CommandException(String.format(MESSAGE_DATA_NOT_LOADED,
+                    storage.getAddressBookFilePath(), e.getMessage()), e);
+        }
+
+        return new LogicManager(new ModelManager(addressBook, userPrefs), storage);
+    }
+
+    /**
+     * Runs the commands in the file at {@code commandsPath} with {@code logic}, like {@link #run} does.
+     */
+    static int runFile(Logic logic, Path commandsPath, PrintStream out, PrintStream err) {
+        try (BufferedReader commands = Files.newBufferedReader(commandsPath, StandardCharsets.UTF_8)) {
+            return run(logic, commands, out, err);
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_COMMANDS_NOT_READ, commandsPath, e.getMessage()));
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Runs each command read from {@code commands} with {@code logic} until there are no more, or one asks to exit.
+     * A command that fails does not stop the ones after it.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or else {@link #EXIT_FAILURE}.
+     * @throws IOException if the commands cannot be read.
+     */
+    static int run(Logic logic, BufferedReader commands, PrintStream out, PrintStream err) throws IOException {
+        int status = EXIT_SUCCESS;
+        for (String line = commands.readLine(); line != null; line = commands.readLine()) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(RunCommand.COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(e.getMessage());
+                status = EXIT_FAILURE;
+            }
+        }
+        return status;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,22 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Started with {@code --headless} as its first argument, it runs {@link HeadlessMain} with the remaining arguments
+ * instead, without loading JavaFX's UI.
  */
 public class Main {
+    /** First argument that runs TutorTrack without a window. */
+    public static final String HEADLESS_FLAG = "--headless";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(HEADLESS_FLAG)) {
+            HeadlessMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
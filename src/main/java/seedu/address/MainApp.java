@@ -1,12 +1,17 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.text.ParseException;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -19,15 +24,13 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +49,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindStorage writeBehindStorage;
+    private AddressBookLoader addressBookLoader;
+    private Thread addressBookLoaderThread;
+    private Recording flightRecording;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -54,49 +62,113 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        startFlightRecording();
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        model = initModelManager(storage, userPrefs);
+        addressBookLoader = AddressBookLoader.of(config, userPrefs);
+        writeBehindStorage = new WriteBehindStorage(
+                new StorageManager(addressBookLoader.getAddressBookStorage(), userPrefsStorage));
+        storage = writeBehindStorage;
 
-        logic = new LogicManager(model, storage);
+        // The data file is read in the background, so that the window does not wait for a large file to load
+        model = new ModelManager(new AddressBook(), userPrefs);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logicManager.startLoading();
+        logic = logicManager;
+        addressBookLoaderThread = new Thread(() -> loadAddressBookInto(logicManager), "address-book-loader");
+        addressBookLoaderThread.setDaemon(true);
 
         ui = new UiManager(logic);
+        writeBehindStorage.setWriteTimeHandler(logicManager::recordWriteTime);
+        writeBehindStorage.setSaveFailureHandler(e -> ui.showSaveFailure(e instanceof AccessDeniedException
+                ? String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage())));
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Converts the data file from the other format if needed, then loads the data from {@code storage}'s address
+     * book and hands it to {@code logicManager} on the JavaFX application thread.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+    private void loadAddressBookInto(LogicManager logicManager) {
+        ReadOnlyAddressBook initialData = new AddressBook();
+        try {
+            addressBookLoader.convertFromOtherFormat();
+            initialData = loadAddressBook(storage);
+        } catch (RuntimeException e) {
+            logger.severe("Data file could not be loaded: " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty AddressBook.");
+        } finally {
+            // Even if loading stopped with an error, as otherwise commands would be rejected for as long as
+            // the application runs
+            ReadOnlyAddressBook loadedData = initialData;
+            Platform.runLater(() -> logicManager.finishLoading(loadedData));
+        }
+    }
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+    /**
+     * Returns the data from {@code storage}'s address book, or from the previous copy of it kept by the last save
+     * if it is not found or cannot be read, as {@link AddressBookLoader#loadAddressBook} does. <br>
+     * Failing that, the data from the sample address book will be used if {@code storage}'s address book is not
+     * found, or an empty address book will be used if errors occur when reading it.
+     */
+    private ReadOnlyAddressBook loadAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = AddressBookLoader.loadAddressBook(storage);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            logger.warning("No previous copy could be loaded. Will be starting with an empty AddressBook.");
+            return new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Starts a Java Flight Recorder recording with the default settings if {@code config} asks for one.
+     * The recording holds the app's own events, such as commands and saves, along with those of the JVM.
+     * It is written to the config's flight recording file when the app stops.
+     */
+    private void startFlightRecording() {
+        if (!config.isFlightRecording()) {
+            return;
+        }
+
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("TutorTrack");
+            recording.setToDisk(true);
+            recording.setDestination(config.getFlightRecordingFilePath());
+            recording.start();
+            flightRecording = recording;
+            logger.info("Started flight recording to " + config.getFlightRecordingFilePath());
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Could not start flight recording: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void stopFlightRecording() {
+        if (flightRecording == null) {
+            return;
+        }
+
+        try {
+            // Stopping writes the recording to its destination
+            flightRecording.stop();
+            logger.info("Flight recording written to " + config.getFlightRecordingFilePath());
+        } catch (IllegalStateException e) {
+            logger.warning("Could not write flight recording: " + StringUtil.getDetails(e));
+        } finally {
+            flightRecording.close();
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -171,16 +243,19 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        addressBookLoaderThread.start();
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        writeBehindStorage.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        stopFlightRecording();
     }
 }
@@ -0,0 +1,91 @@
+package seedu.address;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands in a text file on the data file without opening a window, like the {@code run} command does:
+ * either every command succeeds and the data file is saved once, or it is left as it was.
+ *
+ * Usage: {@code RunScript --script FILE [--data FILE] [--config FILE]}. The config and data files are chosen and
+ * set up as in {@link HeadlessMain}.
+ */
+public class RunScript {
+
+    public static final String MESSAGE_USAGE = "Usage: RunScript --script FILE [--data FILE] [--config FILE]";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option: %s";
+    public static final String MESSAGE_MISSING_VALUE = "Option %s needs a value.";
+    public static final String MESSAGE_MISSING_SCRIPT = "The file of commands to run must be given with --script.";
+
+    private static final Logger logger = LogsCenter.getLogger(RunScript.class);
+
+    private Path scriptPath;
+    private Path dataPath;
+    private Path configPath;
+
+    public static void main(String[] args) {
+        try {
+            System.out.println(parse(args).run());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the command-line arguments of {@link #main(String[])}.
+     *
+     * @throws IllegalArgumentException if the arguments are not valid.
+     */
+    static RunScript parse(String... args) {
+        RunScript runScript = new RunScript();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, option));
+            }
+            String value = args[i + 1];
+            switch (option) {
+            case "--script":
+                runScript.scriptPath = Paths.get(value);
+                break;
+            case "--data":
+                runScript.dataPath = Paths.get(value);
+                break;
+            case "--config":
+                runScript.configPath = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_OPTION, option));
+            }
+        }
+
+        if (runScript.scriptPath == null) {
+            throw new IllegalArgumentException(MESSAGE_MISSING_SCRIPT);
+        }
+        return runScript;
+    }
+
+    /**
+     * Runs the script on the data file, and returns what the {@code run} command reports.
+     *
+     * @throws CommandException if the data file cannot be read, or the script fails and nothing is changed.
+     * @throws ParseException if the path of the script is not valid.
+     */
+    String run() throws CommandException, ParseException {
+        logger.info("Running " + scriptPath);
+        Logic logic = HeadlessMain.initLogic(configPath, dataPath);
+        return logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath).getFeedbackToUser();
+    }
+}
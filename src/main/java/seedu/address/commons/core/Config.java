@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean parallelLoading = true;
+    private boolean flightRecording = false;
+    private Path flightRecordingFilePath = Paths.get("TutorTrack.jfr");
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,37 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the records in the data file are converted on all cores at startup.
+     */
+    public boolean isParallelLoading() {
+        return parallelLoading;
+    }
+
+    public void setParallelLoading(boolean parallelLoading) {
+        this.parallelLoading = parallelLoading;
+    }
+
+    /**
+     * Returns true if a Java Flight Recorder recording is started with the app,
+     * to be written to {@link #getFlightRecordingFilePath()} when the app stops.
+     */
+    public boolean isFlightRecording() {
+        return flightRecording;
+    }
+
+    public void setFlightRecording(boolean flightRecording) {
+        this.flightRecording = flightRecording;
+    }
+
+    public Path getFlightRecordingFilePath() {
+        return flightRecordingFilePath;
+    }
+
+    public void setFlightRecordingFilePath(Path flightRecordingFilePath) {
+        this.flightRecordingFilePath = flightRecordingFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +81,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && parallelLoading == otherConfig.parallelLoading
+                && flightRecording == otherConfig.flightRecording
+                && Objects.equals(flightRecordingFilePath, otherConfig.flightRecordingFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelLoading, flightRecording, flightRecordingFilePath);
     }
 
     @Override
@@ -60,6 +97,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("parallelLoading", parallelLoading)
+                .add("flightRecording", flightRecording)
+                .add("flightRecordingFilePath", flightRecordingFilePath)
                 .toString();
     }
 
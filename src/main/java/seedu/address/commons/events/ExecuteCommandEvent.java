@@ -0,0 +1,48 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for running a command on the model.
+ */
+@Name("seedu.address.ExecuteCommand")
+@Label("Execute Command")
+@Category({"TutorTrack", "Logic"})
+@Description("Running a parsed command on the model")
+public class ExecuteCommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    @Description("Whether the command ran without an error")
+    private boolean isSuccessful;
+
+    @Label("Students")
+    @Description("Number of students after the command ran")
+    private int studentCount;
+
+    @Label("Lessons")
+    @Description("Number of lessons after the command ran")
+    private int lessonCount;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public void setLessonCount(int lessonCount) {
+        this.lessonCount = lessonCount;
+    }
+}
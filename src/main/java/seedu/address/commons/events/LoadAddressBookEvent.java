@@ -0,0 +1,57 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for loading the address book from a data file.
+ */
+@Name("seedu.address.LoadAddressBook")
+@Label("Load Address Book")
+@Category({"TutorTrack", "Storage"})
+@Description("Loading the address book from a data file")
+public class LoadAddressBookEvent extends Event {
+
+    @Label("File")
+    private String filePath;
+
+    @Label("Students")
+    @Description("Number of students loaded, which is 0 if the file was missing or could not be loaded")
+    private int studentCount;
+
+    @Label("Lessons")
+    @Description("Number of lessons loaded, which is 0 if the file was missing or could not be loaded")
+    private int lessonCount;
+
+    @Label("File Size")
+    @DataAmount
+    private long fileSize;
+
+    @Label("Succeeded")
+    @Description("Whether the file could be loaded, or did not exist")
+    private boolean isSuccessful;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public void setLessonCount(int lessonCount) {
+        this.lessonCount = lessonCount;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for turning the text the user entered into a command.
+ */
+@Name("seedu.address.ParseCommand")
+@Label("Parse Command")
+@Category({"TutorTrack", "Logic"})
+@Description("Turning the text the user entered into a command")
+public class ParseCommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parsed")
+    @Description("Whether the text was a valid command")
+    private boolean isParsed;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setParsed(boolean isParsed) {
+        this.isParsed = isParsed;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the main window switching to the list that a command asked to show.
+ */
+@Name("seedu.address.RefreshList")
+@Label("Refresh List")
+@Category({"TutorTrack", "UI"})
+@Description("The main window switching to the list that a command asked to show")
+public class RefreshListEvent extends Event {
+
+    @Label("List")
+    @Description("The list shown, either students or lessons")
+    private String listName;
+
+    @Label("Items")
+    @Description("Number of items in the list shown")
+    private int itemCount;
+
+    public void setListName(String listName) {
+        this.listName = listName;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for saving the address book to its data file.
+ */
+@Name("seedu.address.SaveAddressBook")
+@Label("Save Address Book")
+@Category({"TutorTrack", "Storage"})
+@Description("Saving the address book to its data file")
+public class SaveAddressBookEvent extends Event {
+
+    @Label("File")
+    private String filePath;
+
+    @Label("Students")
+    @Description("Number of students in the address book, which is 0 if only the changes were given to the save")
+    private int studentCount;
+
+    @Label("Lessons")
+    @Description("Number of lessons in the address book, which is 0 if only the changes were given to the save")
+    private int lessonCount;
+
+    @Label("File Size")
+    @Description("Size of the data file after the save, which is 0 if the save failed before creating it")
+    @DataAmount
+    private long fileSize;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public void setLessonCount(int lessonCount) {
+        this.lessonCount = lessonCount;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
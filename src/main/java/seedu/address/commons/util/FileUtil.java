@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +82,146 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Writes given string to a file, replacing the file atomically.
+     * Will create the file and its missing parent directories if they do not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Returns the location where {@link #writeAtomicallyKeepingBackup} keeps the previous copy of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, such that {@code file}
+     * holds either its old contents or all of its new contents even if the application or the machine stops
+     * halfway. The new contents are written to a temporary file next to {@code file} and flushed to the disk,
+     * before the temporary file is moved in place of {@code file}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeThroughTempFile(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeAtomically}, but keeps the old contents of {@code file}, if any, at
+     * {@link #getBackupPath} instead of discarding them.
+     * The backup is made before the new contents are moved in place, so {@code file} is never missing.
+     */
+    public static void writeAtomicallyKeepingBackup(Path file, ContentWriter contentWriter) throws IOException {
+        writeThroughTempFile(file, contentWriter, true);
+    }
+
+    private static void writeThroughTempFile(Path file, ContentWriter contentWriter, boolean isKeepingBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        writeAndForce(tempFile, contentWriter);
+
+        if (isKeepingBackup) {
+            replaceKeepingBackup(tempFile, file);
+        } else {
+            moveAtomically(tempFile, file);
+            forceDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Writes what {@code contentWriter} writes to a new temporary file next to {@code file}, flushes it to the
+     * disk and returns its path. Unlike the temporary file of {@link #writeAtomically}, its name is unique, so
+     * it can be written while {@code file} is being replaced on another thread.
+     */
+    public static Path writeTempFile(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        writeAndForce(tempFile, contentWriter);
+        return tempFile;
+    }
+
+    /**
+     * Moves {@code tempFile}, as written by {@link #writeTempFile}, in place of {@code file} the way
+     * {@link #writeAtomicallyKeepingBackup} does.
+     */
+    public static void replaceKeepingBackup(Path tempFile, Path file) throws IOException {
+        if (Files.exists(file)) {
+            copyAtomically(file, getBackupPath(file));
+        }
+        moveAtomically(tempFile, file);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Writes what {@code contentWriter} writes to {@code file} and flushes it to the disk.
+     * Deletes {@code file} instead if the writing fails.
+     */
+    private static void writeAndForce(Path file, ContentWriter contentWriter) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code target} with those of {@code source}, which is left in place, such that
+     * {@code target} holds either its old contents or all of its new contents even if the application stops
+     * halfway. Where the file system allows it, {@code target} is made a hard link to {@code source} instead
+     * of a copy, so {@code source} must only ever be replaced afterwards, never changed in place.
+     */
+    public static void copyAtomically(Path source, Path target) throws IOException {
+        createParentDirsOfFile(target);
+        Path tempFile = target.resolveSibling(target.getFileName() + TEMP_FILE_SUFFIX);
+        Files.deleteIfExists(tempFile);
+        try {
+            Files.createLink(tempFile, source);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        moveAtomically(tempFile, target);
+    }
+
+    /**
+     * Moves {@code source} in place of {@code target} in a single step where the file system allows it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to the disk, so that files moved into it stay moved.
+     * Not every platform allows a directory to be opened this way, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move itself has still happened, it may just not survive a power failure on this platform
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
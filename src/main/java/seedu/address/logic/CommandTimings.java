@@ -0,0 +1,88 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How long each phase of the commands run so far took, kept separately for every command word.
+ * Timings are recorded without locking and can be read while commands are still being run.
+ */
+public class CommandTimings {
+
+    /**
+     * The phases a command goes through when it is run.
+     */
+    public enum Phase {
+        /** Turning the text entered into a command. */
+        PARSE,
+        /** Running the command on the model. */
+        EXECUTE,
+        /**
+         * Handing the changed address book to storage. Commands that change nothing skip this phase.
+         * Where saves are written in the background, this only covers queuing the save, and the write itself
+         * is timed as {@link #WRITE}.
+         */
+        SAVE,
+        /**
+         * Writing the changed address book to the data file in the background, after the command has finished.
+         * A write that covers the saves of several commands is timed under the last of them.
+         */
+        WRITE;
+
+        /**
+         * Returns the name of this phase as shown to the user.
+         */
+        public String getDisplayName() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records that the {@code phase} of a {@code commandWord} command took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, unused -> createHistograms()).get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the command words that have been timed, in alphabetical order.
+     */
+    public List<String> getCommandWords() {
+        List<String> commandWords = new ArrayList<>(histograms.keySet());
+        Collections.sort(commandWords);
+        return commandWords;
+    }
+
+    /**
+     * Returns the timings of the {@code phase} of {@code commandWord} commands,
+     * which are empty if no such command has been timed.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        requireNonNull(phase);
+        Map<Phase, LatencyHistogram> phaseHistograms = histograms.get(commandWord);
+        return phaseHistograms == null ? new LatencyHistogram() : phaseHistograms.get(phase);
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    private static Map<Phase, LatencyHistogram> createHistograms() {
+        // Filled up front and never changed afterwards, so reading it needs no locking
+        Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        return Collections.unmodifiableMap(phaseHistograms);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how long something took, in nanoseconds, in buckets that are never more than 1/16 of their values wide.
+ * Recording is lock-free, so it adds next to nothing to what is being timed, and percentiles are read from the
+ * bucket counts rather than from every recorded duration.
+ *
+ * Durations below 32 ns each have a bucket of their own. Above that, each power of two is split into
+ * {@link #SUB_BUCKET_COUNT} equal buckets.
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_COUNT = 16;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(bucketOf(duration));
+        count.incrementAndGet();
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the longest duration recorded, in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMaxMillis() {
+        return toMillis(getMax());
+    }
+
+    /**
+     * Returns the duration, in nanoseconds, that {@code percentile} percent of the recorded durations are no
+     * longer than, or 0 if none have been recorded. The duration is rounded up to the end of its bucket.
+     * Durations recorded while this method runs may or may not be counted.
+     *
+     * @param percentile a number from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile should be from 0 to 100";
+
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the duration at {@code percentile} like {@link #getValueAtPercentile}, in milliseconds.
+     */
+    public double getMillisAtPercentile(double percentile) {
+        return toMillis(getValueAtPercentile(percentile));
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    static int bucketOf(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -40,6 +41,15 @@ public interface Logic {
     /** Returns the current list on display */
     ObservableList<?> getFilteredCurrList();
 
+    /** Returns true if the list on display is the student list, and false if it is the lesson list */
+    boolean isStudentView();
+
+    /**
+     * Returns a property that is true while the address book is still being loaded from the data file.
+     * Commands are rejected until it becomes false.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,17 +1,25 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ExecuteCommandEvent;
+import seedu.address.logic.CommandTimings.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.ParsedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -33,6 +41,14 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandTimings commandTimings = new CommandTimings();
+
+    // Version of the address book that was last written to storage
+    private long savedAddressBookVersion;
+    // Word of the last command that saved the address book, which background writes are timed under
+    private volatile String lastSavingCommandWord;
+
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,28 +56,122 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(commandTimings);
+        savedAddressBookVersion = model.getAddressBookVersion();
+        model.takeAddressBookChanges(); // only the changes made by commands are saved as changes
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        if (loading.get()) {
+            throw new CommandException(Messages.MESSAGE_STILL_LOADING);
+        }
+
+        long parseStart = System.nanoTime();
+        ParsedCommand parsedCommand = addressBookParser.parse(commandText);
+        long executeStart = System.nanoTime();
+        // Only commands that parse are timed, so that mistyped command words do not pile up in the timings.
+        // Aliases and abbreviations are timed under the command word they stand for
+        Command command = parsedCommand.getCommand();
+        String commandWord = parsedCommand.getCommandWord();
+        commandTimings.record(commandWord, Phase.PARSE, executeStart - parseStart);
+
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        ExecuteCommandEvent event = new ExecuteCommandEvent();
+        event.begin();
+        try {
+            commandResult = command.execute(model);
+            event.setSuccessful(true);
+        } finally {
+            commandTimings.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart);
+            commitExecuteEvent(event, commandWord);
+        }
+
+        // Commands that only read the data, such as list and find, do not need to be saved
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
 
+        long saveStart = System.nanoTime();
+        lastSavingCommandWord = commandWord;
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            // Only the changes are saved where the storage can, instead of the whole address book
+            storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        } finally {
+            commandTimings.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
         }
+        savedAddressBookVersion = addressBookVersion;
 
         return commandResult;
     }
 
+    private void commitExecuteEvent(ExecuteCommandEvent event, String commandWord) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setCommandWord(commandWord);
+            event.setStudentCount(model.getAddressBook().getStudentList().size());
+            event.setLessonCount(model.getAddressBook().getLessonList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the timings of the commands this {@code LogicManager} has run.
+     */
+    public CommandTimings getCommandTimings() {
+        return commandTimings;
+    }
+
+    /**
+     * Records that writing the address book in the background took {@code nanos} nanoseconds, under the last
+     * command that saved it. Can be called from any thread.
+     */
+    public void recordWriteTime(long nanos) {
+        String commandWord = lastSavingCommandWord;
+        if (commandWord != null) {
+            commandTimings.record(commandWord, Phase.WRITE, nanos);
+        }
+    }
+
+    /**
+     * Returns the registry of the commands this {@code LogicManager} can run, where more commands can be registered.
+     */
+    public CommandRegistry getCommandRegistry() {
+        return addressBookParser.getCommandRegistry();
+    }
+
+    /**
+     * Marks the address book as being loaded, so that commands are rejected until {@link #finishLoading} is called.
+     */
+    public void startLoading() {
+        loading.set(true);
+    }
+
+    /**
+     * Replaces the address book in the model with the loaded {@code addressBook}, and starts accepting commands.
+     * The loaded address book is not saved, as it is what the data file already holds.
+     */
+    public void finishLoading(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        model.setAddressBook(addressBook);
+        savedAddressBookVersion = model.getAddressBookVersion();
+        model.takeAddressBookChanges();
+        loading.set(false);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -82,6 +192,11 @@ public class LogicManager implements Logic {
         return model.getFilteredCurrList();
     }
 
+    @Override
+    public boolean isStudentView() {
+        return model.isStudentView();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
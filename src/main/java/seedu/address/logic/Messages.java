@@ -15,6 +15,7 @@ import seedu.address.model.student.Student;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Error: Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Error: %1$s could be short for any of: %2$s";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Error: Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX = "Error: The student index"
         + " provided is out of bounds!";
@@ -30,6 +31,7 @@ public class Messages {
     public static final String MESSAGE_ASSIGNMENT_NOT_FOUND = "Error: Assignment with name \"%1$s\" not found!";
     public static final String MESSAGE_STUDENT_VIEW_REQUIRED = "Error: You can only delete student on student list!";
     public static final String MESSAGE_LESSON_VIEW_REQUIRED = "Error: You can only delete lesson on lesson list!";
+    public static final String MESSAGE_STILL_LOADING = "Your data is still being loaded. Please try again in a moment.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
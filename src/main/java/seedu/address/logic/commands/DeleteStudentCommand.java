@@ -11,7 +11,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 
 /**
@@ -68,16 +67,9 @@ public class DeleteStudentCommand extends Command {
         assert studentToDelete != null : "Student to delete should not be null";
 
         // Delete all lessons associated with the student
-        List<Lesson> lessonsToDelete = model.getFilteredLessonList()
-                .stream()
-                .filter(lesson -> lesson.getStudentName().equals(studentToDelete.getName()))
-                .toList();
-
-        logger.info("Deleting " + lessonsToDelete.size() + " associated lessons");
-        lessonsToDelete.forEach(lesson -> {
-            model.deleteLesson(lesson);
-            logger.fine("Deleted lesson: " + lesson);
-        });
+        logger.info("Deleting " + model.getLessonsOfStudent(studentToDelete.getName()).size()
+                + " associated lessons");
+        model.deleteLessonsOfStudent(studentToDelete.getName());
 
         // Finally, delete the student
         model.deleteStudent(studentToDelete);
@@ -1,8 +1,6 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.logic.commands.EditLessonCommand.EditLessonDescriptor;
-import static seedu.address.logic.commands.EditLessonCommand.createEditedLesson;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -24,7 +22,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.assignment.UniqueAssignmentList;
-import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Address;
 import seedu.address.model.student.Email;
 import seedu.address.model.student.Name;
@@ -89,33 +86,21 @@ public class EditStudentCommand extends Command {
         Student editedStudent = createEditedStudent(studentToEdit, editStudentDescriptor);
         assert editedStudent != null : "Edited student should not be null";
 
-        boolean isDuplicate = model.getFilteredStudentList().stream()
-                .filter(student -> !student.equals(studentToEdit)) // exclude the student being edited
-                .anyMatch(student -> student.isSameStudent(editedStudent));
-
-        if (isDuplicate) {
+        // Students hidden by the current filter count too, so the whole address book is checked
+        if (model.hasStudentOtherThan(studentToEdit, editedStudent)) {
             logger.warning("Duplicate student detected: " + editedStudent.getName());
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        // Edit all lessons associated with the student
-        List<Lesson> lessonsToEdit = model.getFilteredLessonList()
-                .stream()
-                .filter(lesson -> lesson.getStudentName().equals(studentToEdit.getName()))
-                .toList();
+        model.setStudent(studentToEdit, editedStudent);
+
+        // Move all lessons associated with the student over to the new name, once the edit has been accepted
         if (editStudentDescriptor.getName().isPresent()) {
-            EditLessonDescriptor editLessonDescriptor = new EditLessonDescriptor();
-            editLessonDescriptor.setName(editStudentDescriptor.getName().get());
-
-            logger.info("Editing " + lessonsToEdit.size() + " associated lessons");
-            lessonsToEdit.forEach(lesson -> {
-                Lesson editedLesson = createEditedLesson(lesson, editLessonDescriptor);
-                model.setLesson(lesson, editedLesson);
-                logger.fine("Edited lesson: " + lesson);
-            });
+            logger.info("Editing " + model.getLessonsOfStudent(studentToEdit.getName()).size()
+                    + " associated lessons");
+            model.renameLessonsOfStudent(studentToEdit.getName(), editedStudent.getName());
         }
 
-        model.setStudent(studentToEdit, editedStudent);
         model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
 
         logger.info("Student successfully edited: " + editedStudent.getName());
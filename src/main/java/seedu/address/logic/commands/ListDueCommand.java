@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.DueAssignment;
+
+/**
+ * Lists the assignments of all students that are due within a number of days,
+ * or that are overdue and not done yet.
+ */
+public class ListDueCommand extends Command {
+
+    public static final String COMMAND_WORD = "list_due";
+    public static final String KEYWORD_OVERDUE = "overdue";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the assignments of all students that are "
+            + "due within the given number of days, or that are overdue and not done yet.\n"
+            + "Format: " + COMMAND_WORD + " DAYS (must be a non-negative integer) or " + COMMAND_WORD + " "
+            + KEYWORD_OVERDUE + "\n"
+            + "Examples:\n"
+            + "1. " + COMMAND_WORD + " 7 - Shows assignments due within the next 7 days\n"
+            + "2. " + COMMAND_WORD + " " + KEYWORD_OVERDUE + " - Shows overdue assignments that are not done";
+
+    public static final String MESSAGE_DUE_WITHIN = "%1$d assignment(s) due within %2$d day(s):";
+    public static final String MESSAGE_OVERDUE = "%1$d overdue assignment(s) not done:";
+    public static final String MESSAGE_NO_ASSIGNMENTS_FOUND = "No assignments found matching the criteria";
+
+    private static final Logger logger = LogsCenter.getLogger(ListDueCommand.class);
+
+    private final Optional<Integer> days;
+
+    /**
+     * Creates a ListDueCommand that lists overdue assignments that are not done.
+     */
+    public ListDueCommand() {
+        this.days = Optional.empty();
+        logger.info("ListDueCommand created for overdue assignments");
+    }
+
+    /**
+     * Creates a ListDueCommand that lists assignments due within {@code days} days from today.
+     *
+     * @param days number of days after today to look ahead, must not be negative
+     */
+    public ListDueCommand(int days) {
+        assert days >= 0 : "Number of days should not be negative";
+        this.days = Optional.of(days);
+        logger.info("ListDueCommand created for assignments due within " + days + " days");
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        logger.info("Executing ListDueCommand");
+
+        LocalDate today = LocalDate.now();
+        List<DueAssignment> dueAssignments = days.isPresent()
+                ? model.getAssignmentsDueBetween(today, today.plusDays(days.get()))
+                : model.getOverdueAssignments(today);
+
+        if (dueAssignments.isEmpty()) {
+            logger.info("No assignments found matching the criteria");
+            return new CommandResult(MESSAGE_NO_ASSIGNMENTS_FOUND);
+        }
+
+        logger.info("Found " + dueAssignments.size() + " assignments matching the criteria");
+        String header = days.isPresent()
+                ? String.format(MESSAGE_DUE_WITHIN, dueAssignments.size(), days.get())
+                : String.format(MESSAGE_OVERDUE, dueAssignments.size());
+        return new CommandResult(header + formatAssignments(dueAssignments));
+    }
+
+    private static String formatAssignments(List<DueAssignment> dueAssignments) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < dueAssignments.size(); i++) {
+            DueAssignment dueAssignment = dueAssignments.get(i);
+            Assignment assignment = dueAssignment.getAssignment();
+            builder.append("\n")
+                    .append(i + 1)
+                    .append(". ")
+                    .append(assignment.getAssignmentName())
+                    .append(" for ")
+                    .append(dueAssignment.getStudentName())
+                    .append("; Due: ")
+                    .append(assignment.getDueDate())
+                    .append(assignment.isDone() ? " (done)" : "");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListDueCommand)) {
+            return false;
+        }
+
+        ListDueCommand otherListDueCommand = (ListDueCommand) other;
+        return days.equals(otherListDueCommand.days);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
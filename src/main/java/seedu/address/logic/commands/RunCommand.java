@@ -0,0 +1,179 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Student;
+
+/**
+ * Runs the commands in a text file, one per line, as a single change to the address book: either every command
+ * succeeds, or the address book is left as it was.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines starting with this are comments. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a text file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped. "
+            + "If any command fails, none of them take effect. Indexes refer to the full list of students, "
+            + "until a command in the file shows another list.\n"
+            + "Format: " + COMMAND_WORD + " FILE\n"
+            + "Example: " + COMMAND_WORD + " data/new_term.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_FAILED = "Nothing was changed, as %1$s has errors:";
+    public static final String MESSAGE_LINE_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "\n...and %1$d more error(s)";
+    public static final String MESSAGE_NESTED_RUN = "A file cannot run other files.";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    /** Errors past this many are only counted, so that a file with a mistake on every line gives a short message. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path filePath;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a RunCommand that runs the commands in {@code filePath}, parsed by {@code addressBookParser}.
+     */
+    public RunCommand(Path filePath, AddressBookParser addressBookParser) {
+        requireNonNull(filePath);
+        requireNonNull(addressBookParser);
+        this.filePath = filePath;
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Runs the commands on a copy of the address book in {@code model}, and puts the copy in its place only if all
+     * of them succeed. Assignments are changed in place, so the students are copied along with their assignments.
+     * The copy has no list shown, so it is changed without redrawing anything, and the model is
+     * changed, and then saved, only once.
+     * After a command fails, the rest of the file is still parsed, so that all the lines with mistakes in them
+     * are reported together.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running commands from " + filePath);
+
+        Model workingModel = new ModelManager(copyAddressBook(model.getAddressBook()), model.getUserPrefs());
+        List<String> errors = new ArrayList<>();
+        int commandCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                Command command;
+                try {
+                    command = parseLine(trimmedLine);
+                } catch (ParseException pe) {
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, pe.getMessage()));
+                    continue;
+                }
+
+                // Commands after a failed one could depend on it, so they are not run
+                if (!errors.isEmpty()) {
+                    continue;
+                }
+                try {
+                    command.execute(workingModel);
+                    commandCount++;
+                } catch (CommandException ce) {
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, ce.getMessage()));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to read " + filePath + ": " + e);
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+
+        if (!errors.isEmpty()) {
+            logger.info("Not applying " + filePath + ", which has " + errors.size() + " error(s)");
+            throw new CommandException(formatErrors(errors));
+        }
+
+        model.setAddressBook(workingModel.getAddressBook());
+        logger.info("Ran " + commandCount + " command(s) from " + filePath);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath), true);
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that running commands on leaves {@code addressBook} as it is.
+     * Lessons are immutable and are shared.
+     */
+    private static AddressBook copyAddressBook(ReadOnlyAddressBook addressBook) {
+        AddressBook copy = new AddressBook();
+        copy.setLessons(addressBook.getLessonList());
+        copy.setStudents(addressBook.getStudentList().stream()
+                .map(Student::deepCopy)
+                .toList());
+        return copy;
+    }
+
+    private Command parseLine(String line) throws ParseException {
+        Command command = addressBookParser.parseCommand(line);
+        if (command instanceof RunCommand) {
+            throw new ParseException(MESSAGE_NESTED_RUN);
+        }
+        return command;
+    }
+
+    private String formatErrors(List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FAILED, filePath));
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(message::append);
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath)
+                && addressBookParser == otherRunCommand.addressBookParser;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CommandTimings;
+import seedu.address.logic.CommandTimings.Phase;
+import seedu.address.logic.LatencyHistogram;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long the commands run so far took to parse, execute and save, and optionally exports the timings
+ * to a CSV file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long the commands run since the app "
+            + "started took to parse, execute and save, as the median (p50), p95 and p99 in milliseconds.\n"
+            + "Format: " + COMMAND_WORD + " [FILE] (also exports the timings to FILE as CSV)\n"
+            + "Examples:\n"
+            + "1. " + COMMAND_WORD + "\n"
+            + "2. " + COMMAND_WORD + " data/stats.csv";
+
+    public static final String MESSAGE_NO_TIMINGS = "No commands have been timed yet.";
+    public static final String MESSAGE_TIMINGS = "Command timings in ms since the app started:";
+    public static final String MESSAGE_EXPORTED = "Command timings exported to %1$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export command timings to %1$s: %2$s";
+
+    public static final String CSV_HEADER = "command,phase,count,p50_ms,p95_ms,p99_ms,max_ms";
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCommand.class);
+
+    private final CommandTimings commandTimings;
+    private final Optional<Path> exportPath;
+
+    /**
+     * Creates a StatsCommand that shows {@code commandTimings}.
+     */
+    public StatsCommand(CommandTimings commandTimings) {
+        requireNonNull(commandTimings);
+        this.commandTimings = commandTimings;
+        this.exportPath = Optional.empty();
+    }
+
+    /**
+     * Creates a StatsCommand that shows {@code commandTimings} and exports them to {@code exportPath}.
+     */
+    public StatsCommand(CommandTimings commandTimings, Path exportPath) {
+        requireNonNull(commandTimings);
+        requireNonNull(exportPath);
+        this.commandTimings = commandTimings;
+        this.exportPath = Optional.of(exportPath);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Executing StatsCommand");
+
+        if (commandTimings.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TIMINGS);
+        }
+
+        String summary = formatTimings(commandTimings);
+        if (exportPath.isEmpty()) {
+            return new CommandResult(summary);
+        }
+
+        Path path = exportPath.get();
+        try {
+            FileUtil.writeToFile(path, toCsv(commandTimings));
+        } catch (IOException e) {
+            logger.warning("Failed to export command timings to " + path + ": " + e);
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, path, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORTED, path) + "\n" + summary);
+    }
+
+    private static String formatTimings(CommandTimings commandTimings) {
+        StringBuilder builder = new StringBuilder(MESSAGE_TIMINGS);
+        for (String commandWord : commandTimings.getCommandWords()) {
+            builder.append("\n").append(commandWord);
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandTimings.getHistogram(commandWord, phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                builder.append(String.format(Locale.ROOT, "\n  %s: %d run(s), p50 %.3f, p95 %.3f, p99 %.3f",
+                        phase.getDisplayName(), histogram.getCount(), histogram.getMillisAtPercentile(50),
+                        histogram.getMillisAtPercentile(95), histogram.getMillisAtPercentile(99)));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code commandTimings} as CSV, with one row for each phase of each command word that has been timed.
+     */
+    static String toCsv(CommandTimings commandTimings) {
+        StringBuilder builder = new StringBuilder(CSV_HEADER).append("\n");
+        for (String commandWord : commandTimings.getCommandWords()) {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandTimings.getHistogram(commandWord, phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                builder.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f\n", commandWord,
+                        phase.getDisplayName(), histogram.getCount(), histogram.getMillisAtPercentile(50),
+                        histogram.getMillisAtPercentile(95), histogram.getMillisAtPercentile(99),
+                        histogram.getMaxMillis()));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandTimings == otherStatsCommand.commandTimings
+                && exportPath.equals(otherStatsCommand.exportPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("exportPath", exportPath)
+                .toString();
+    }
+}
@@ -1,13 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ParseCommandEvent;
+import seedu.address.logic.CommandTimings;
 import seedu.address.logic.commands.AddAssignmentCommand;
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.commands.AddStudentCommand;
@@ -22,10 +22,14 @@ import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListDueCommand;
 import seedu.address.logic.commands.ListLessonsCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
 import seedu.address.logic.commands.MarkAssignmentCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnmarkAssignmentCommand;
+import seedu.address.logic.parser.CommandRegistry.RegisteredCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -33,11 +37,52 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry commandRegistry = new CommandRegistry();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} whose stats commands show timings that nothing records.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(new CommandTimings());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} for the built-in commands, whose stats commands show
+     * {@code commandTimings}.
+     */
+    public AddressBookParser(CommandTimings commandTimings) {
+        requireNonNull(commandTimings);
+        commandRegistry.register(AddStudentCommand.COMMAND_WORD, new AddStudentCommandParser());
+        commandRegistry.register(AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser());
+        commandRegistry.register(AddAssignmentCommand.COMMAND_WORD, new AddAssignmentCommandParser());
+        commandRegistry.register(EditLessonCommand.COMMAND_WORD, new EditLessonCommandParser());
+        commandRegistry.register(EditStudentCommand.COMMAND_WORD, new EditStudentCommandParser());
+        commandRegistry.registerUnabbreviated(DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser());
+        commandRegistry.registerUnabbreviated(DeleteStudentCommand.COMMAND_WORD, new DeleteStudentCommandParser());
+        commandRegistry.registerUnabbreviated(DeleteAssignmentCommand.COMMAND_WORD,
+                new DeleteAssignmentCommandParser());
+        commandRegistry.registerUnabbreviated(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        commandRegistry.register(FindStudentCommand.COMMAND_WORD, new FindStudentCommandParser());
+        commandRegistry.register(ListStudentsCommand.COMMAND_WORD, arguments -> new ListStudentsCommand());
+        commandRegistry.register(ListLessonsCommand.COMMAND_WORD, new ListLessonsCommandParser());
+        commandRegistry.register(ListDueCommand.COMMAND_WORD, new ListDueCommandParser());
+        commandRegistry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(), "quit");
+        commandRegistry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        commandRegistry.register(MarkAssignmentCommand.COMMAND_WORD, new MarkAssignmentCommandParser());
+        commandRegistry.register(UnmarkAssignmentCommand.COMMAND_WORD, new UnmarkAssignmentCommandParser());
+        commandRegistry.register(EditAssignmentCommand.COMMAND_WORD, new EditAssignmentCommandParser());
+        commandRegistry.register(StatsCommand.COMMAND_WORD, new StatsCommandParser(commandTimings));
+        commandRegistry.register(RunCommand.COMMAND_WORD, new RunCommandParser(this));
+    }
+
+    /**
+     * Returns the registry of the commands this parser can parse, where more commands can be registered.
+     */
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -47,24 +92,50 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        return parse(userInput).getCommand();
+    }
+
+    /**
+     * Parses user input into command for execution, along with the command word of the command the user named.
+     * Each call is recorded as a {@link ParseCommandEvent} when Java Flight Recorder is recording.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ParsedCommand parse(String userInput) throws ParseException {
+        ParseCommandEvent event = new ParseCommandEvent();
+        event.begin();
+        try {
+            ParsedCommand parsedCommand = parse(userInput, event);
+            event.setParsed(true);
+            return parsedCommand;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private ParsedCommand parse(String userInput, ParseCommandEvent event) throws ParseException {
         assert userInput != null : "User input cannot be null";
         logger.info("Starting to parse command: " + userInput);
 
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             logger.warning("Failed to parse command - invalid format: " + userInput);
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        event.setCommandWord(commandWord);
 
         logger.fine("Parsed command word: " + commandWord + " with arguments: " + arguments);
 
         try {
-            Command command = parseCommandByWord(commandWord, arguments);
+            RegisteredCommand registeredCommand = commandRegistry.resolve(commandWord);
+            event.setCommandWord(registeredCommand.getCommandWord());
+            ParsedCommand parsedCommand = registeredCommand.parse(arguments);
             logger.info("Successfully parsed command: " + commandWord);
-            return command;
+            return parsedCommand;
         } catch (ParseException pe) {
             logger.warning("Failed to parse command '" + commandWord + "': " + pe.getMessage());
             throw pe;
@@ -75,67 +146,14 @@ public class AddressBookParser {
     }
 
     /**
-     * Parses the command based on the command word.
+     * Returns the index of the first whitespace in {@code trimmedInput}, or its length if there is none.
      */
-    private Command parseCommandByWord(String commandWord, String arguments) throws ParseException {
-        assert commandWord != null : "Command word cannot be null";
-        assert arguments != null : "Arguments cannot be null";
-
-        switch (commandWord) {
-        case AddStudentCommand.COMMAND_WORD:
-            return new AddStudentCommandParser().parse(arguments);
-
-        case AddLessonCommand.COMMAND_WORD:
-            return new AddLessonCommandParser().parse(arguments);
-
-        case AddAssignmentCommand.COMMAND_WORD:
-            return new AddAssignmentCommandParser().parse(arguments);
-
-        case EditLessonCommand.COMMAND_WORD:
-            return new EditLessonCommandParser().parse(arguments);
-
-        case EditStudentCommand.COMMAND_WORD:
-            return new EditStudentCommandParser().parse(arguments);
-
-        case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
-
-        case DeleteStudentCommand.COMMAND_WORD:
-            return new DeleteStudentCommandParser().parse(arguments);
-
-        case DeleteAssignmentCommand.COMMAND_WORD:
-            return new DeleteAssignmentCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindStudentCommand.COMMAND_WORD:
-            return new FindStudentCommandParser().parse(arguments);
-
-        case ListStudentsCommand.COMMAND_WORD:
-            return new ListStudentsCommand();
-
-        case ListLessonsCommand.COMMAND_WORD:
-            return new ListLessonsCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case MarkAssignmentCommand.COMMAND_WORD:
-            return new MarkAssignmentCommandParser().parse(arguments);
-
-        case UnmarkAssignmentCommand.COMMAND_WORD:
-            return new UnmarkAssignmentCommandParser().parse(arguments);
-
-        case EditAssignmentCommand.COMMAND_WORD:
-            return new EditAssignmentCommandParser().parse(arguments);
-
-        default:
-            logger.warning("Unknown command encountered: " + commandWord);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static int findCommandWordEnd(String trimmedInput) {
+        for (int i = 0; i < trimmedInput.length(); i++) {
+            if (ArgumentTokenizer.isWhitespace(trimmedInput.charAt(i))) {
+                return i;
+            }
         }
+        return trimmedInput.length();
     }
 }
@@ -1,147 +1,171 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
  * 1. An argument's value can be an empty string e.g. the value of {@code k/} in the above example.<br>
- * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
+ * 2. Leading and trailing whitespaces of an argument value will be discarded, and whitespaces within it are
+ *    collapsed into a single space.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. A prefix is only recognized when there is a space right before it. Where one prefix begins with another,
+ *    e.g. {@code s/} and {@code s/x/}, the longer one is taken.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * The arguments string is read once from left to right, and each value is added as soon as its end is found.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+        PrefixTrie prefixTrie = new PrefixTrie(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        // Everything before the first prefix is the preamble
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            Prefix prefix = prefixTrie.findLongestPrefixAt(argsString, i);
+            if (prefix == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, i));
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            i = valueStart - 1; // carry on from the end of the prefix
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, argsString.length()));
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns the value between {@code start} and {@code end} in the arguments string, trimmed and with every
+     * run of whitespaces within it replaced by a single space.
+     * Values that need no such change are returned as they are in the arguments string, without copying them.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+    private static String extractArgumentValue(String argsString, int start, int end) {
+        // Trimmed the same way as String#trim
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
 
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        StringBuilder collapsed = null;
+        int copiedUpTo = start;
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(argsString.charAt(i))) {
+                continue;
+            }
+            int runEnd = i + 1;
+            while (runEnd < end && isWhitespace(argsString.charAt(runEnd))) {
+                runEnd++;
+            }
+            if (runEnd - i > 1 || argsString.charAt(i) != ' ') {
+                if (collapsed == null) {
+                    collapsed = new StringBuilder(end - start);
+                }
+                collapsed.append(argsString, copiedUpTo, i).append(' ');
+                copiedUpTo = runEnd;
+            }
+            i = runEnd - 1;
         }
 
-        return argMultimap;
+        return collapsed == null
+                ? argsString.substring(start, end)
+                : collapsed.append(argsString, copiedUpTo, end).toString();
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns true if {@code c} is a whitespace as matched by {@code \s} in a regular expression.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim().replaceAll("\\s+", " ");
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of the prefixes to recognize, which finds the prefix at a position in an arguments string
+     * by looking at each character there at most once, however many prefixes there are.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                // An empty prefix would match everywhere, so it is never recognized
+                if (prefix.getPrefix().isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (char c : prefix.getPrefix().toCharArray()) {
+                    node = node.getOrAddChild(c);
+                }
+                node.prefix = prefix;
+            }
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        /**
+         * Returns the longest prefix that {@code argsString} has at {@code position}, or null if there is none.
+         */
+        Prefix findLongestPrefixAt(String argsString, int position) {
+            Prefix longestPrefix = null;
+            Node node = root;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestPrefix = node.prefix;
+                }
+            }
+            return longestPrefix;
         }
+    }
 
-        int getStartPosition() {
-            return startPosition;
+    /**
+     * A node of a {@code PrefixTrie}. Commands have only a handful of prefixes, so the children of a node are
+     * kept in small arrays and searched one by one.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        /** The prefix that ends at this node, if any. */
+        private Prefix prefix;
+
+        Node getChild(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        Node getOrAddChild(char c) {
+            Node child = getChild(c);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
     }
 
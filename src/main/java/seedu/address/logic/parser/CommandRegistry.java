@@ -0,0 +1,222 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The commands that can be parsed, each with the parser for its arguments, keyed by command word.
+ *
+ * A command can be given by its command word, by any of its aliases, or by any abbreviation of them that no
+ * other command shares, e.g. {@code add_s} for {@code add_student}. Commands that cannot be undone can be
+ * registered so that they must be typed in full. Every name and abbreviation is worked out
+ * when a command is registered, so that finding the command for a word takes a single hash lookup.
+ * Parsers are reused for every command they parse, so they must not keep any state between calls.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_INVALID_COMMAND_WORD =
+            "Command words and aliases should not be blank or contain whitespace, but was given: %1$s";
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "%1$s is already the name of a command";
+
+    /** Command words and aliases, mapped to the command they name. */
+    private final Map<String, RegisteredCommand> namedCommands = new LinkedHashMap<>();
+
+    /** Command words, aliases and abbreviations, mapped to the command they name. Replaced, never changed. */
+    private volatile Map<String, RegisteredCommand> commandsByWord = Collections.emptyMap();
+
+    /**
+     * Registers {@code parser} to parse the arguments of the command with {@code commandWord}, which can also be
+     * given by any of {@code aliases}.
+     *
+     * @throws IllegalArgumentException if the command word or an alias contains whitespace, or already names a
+     *     command.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        addCommand(commandWord, parser, true, aliases);
+    }
+
+    /**
+     * Registers {@code parser} like {@link #register}, but for a command that can only be given by its command word
+     * or an alias typed in full, as it cannot be undone, e.g. {@code clear}.
+     * The names of such a command still make the abbreviations they share with other commands ambiguous, so that
+     * the beginning of its name never runs a different command.
+     *
+     * @throws IllegalArgumentException if the command word or an alias contains whitespace, or already names a
+     *     command.
+     */
+    public void registerUnabbreviated(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        addCommand(commandWord, parser, false, aliases);
+    }
+
+    private synchronized void addCommand(String commandWord, Parser<? extends Command> parser,
+            boolean isAbbreviable, String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        requireNonNull(aliases);
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : prepend(commandWord, aliases)) {
+            checkArgument(isValidName(name), String.format(MESSAGE_INVALID_COMMAND_WORD, name));
+            checkArgument(!namedCommands.containsKey(name) && names.add(name),
+                    String.format(MESSAGE_DUPLICATE_COMMAND_WORD, name));
+        }
+
+        RegisteredCommand command = new RegisteredCommand(commandWord, parser, isAbbreviable);
+        for (String name : names) {
+            namedCommands.put(name, command);
+        }
+        commandsByWord = mapAbbreviations(namedCommands);
+    }
+
+    /**
+     * Returns the command word of the command that {@code word} names, if any.
+     */
+    public Optional<String> findCommandWord(String word) {
+        requireNonNull(word);
+        RegisteredCommand command = commandsByWord.get(word);
+        return command == null ? Optional.empty() : Optional.of(command.commandWord);
+    }
+
+    /**
+     * Returns the command that {@code word} names.
+     *
+     * @throws ParseException if {@code word} names no command.
+     */
+    public RegisteredCommand resolve(String word) throws ParseException {
+        requireNonNull(word);
+        RegisteredCommand command = commandsByWord.get(word);
+        if (command == null) {
+            throw new ParseException(getUnknownCommandMessage(word));
+        }
+        return command;
+    }
+
+    /**
+     * Parses {@code arguments} with the parser of the command that {@code word} names.
+     *
+     * @throws ParseException if {@code word} names no command, or the arguments cannot be parsed.
+     */
+    public ParsedCommand parse(String word, String arguments) throws ParseException {
+        return resolve(word).parse(arguments);
+    }
+
+    /**
+     * Returns the command words of all registered commands, in alphabetical order.
+     */
+    public Set<String> getCommandWords() {
+        Set<String> commandWords = new TreeSet<>();
+        for (RegisteredCommand command : commandsByWord.values()) {
+            commandWords.add(command.commandWord);
+        }
+        return commandWords;
+    }
+
+    /**
+     * Returns the error for a word that names no command, which lists the commands it could be short for.
+     */
+    private String getUnknownCommandMessage(String word) {
+        // Every name of a command starts with an abbreviation of it, so the lookup map holds all candidates
+        Set<String> candidates = new TreeSet<>();
+        commandsByWord.forEach((name, command) -> {
+            if (name.startsWith(word)) {
+                candidates.add(command.commandWord);
+            }
+        });
+        return candidates.isEmpty()
+                ? MESSAGE_UNKNOWN_COMMAND
+                : String.format(MESSAGE_AMBIGUOUS_COMMAND, word, String.join(", ", candidates));
+    }
+
+    /**
+     * Returns {@code namedCommands} together with every abbreviation of their names that only one command has,
+     * unless that command must be given in full.
+     */
+    private static Map<String, RegisteredCommand> mapAbbreviations(Map<String, RegisteredCommand> namedCommands) {
+        // A command with aliases can have the same abbreviation through more than one of its names, so commands
+        // are compared rather than counted
+        Map<String, RegisteredCommand> abbreviations = new HashMap<>();
+        namedCommands.forEach((name, command) -> {
+            for (int length = 1; length < name.length(); length++) {
+                abbreviations.merge(name.substring(0, length), command, (existing, added) ->
+                        existing == added ? existing : RegisteredCommand.AMBIGUOUS);
+            }
+        });
+
+        Map<String, RegisteredCommand> commandsByWord = new HashMap<>();
+        abbreviations.forEach((abbreviation, command) -> {
+            if (command != RegisteredCommand.AMBIGUOUS && command.isAbbreviable) {
+                commandsByWord.put(abbreviation, command);
+            }
+        });
+        // Full names win over abbreviations, e.g. a command named "list" over "list_students"
+        commandsByWord.putAll(namedCommands);
+        return Collections.unmodifiableMap(commandsByWord);
+    }
+
+    private static List<String> prepend(String first, String... rest) {
+        List<String> strings = new ArrayList<>();
+        strings.add(first);
+        strings.addAll(List.of(rest));
+        return strings;
+    }
+
+    private static boolean isValidName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (ArgumentTokenizer.isWhitespace(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A registered command: its command word, the parser for its arguments, and whether it can be abbreviated.
+     */
+    public static class RegisteredCommand {
+        /** Stands for an abbreviation that more than one command has. */
+        private static final RegisteredCommand AMBIGUOUS = new RegisteredCommand("", args -> null, false);
+
+        private final String commandWord;
+        private final Parser<? extends Command> parser;
+        private final boolean isAbbreviable;
+
+        RegisteredCommand(String commandWord, Parser<? extends Command> parser, boolean isAbbreviable) {
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.isAbbreviable = isAbbreviable;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        /**
+         * Parses {@code arguments} into this command.
+         *
+         * @throws ParseException if the arguments cannot be parsed.
+         */
+        public ParsedCommand parse(String arguments) throws ParseException {
+            requireNonNull(arguments);
+            return new ParsedCommand(commandWord, parser.parse(arguments));
+        }
+    }
+}
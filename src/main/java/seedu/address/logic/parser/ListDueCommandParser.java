@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ListDueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListDueCommand object
+ */
+public class ListDueCommandParser implements Parser<ListDueCommand> {
+    private static final Logger logger = LogsCenter.getLogger(ListDueCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListDueCommand
+     * and returns a ListDueCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ListDueCommand parse(String args) throws ParseException {
+        assert args != null : "Input arguments string cannot be null";
+        logger.info("Parsing ListDueCommand with arguments: " + args);
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.equalsIgnoreCase(ListDueCommand.KEYWORD_OVERDUE)) {
+            return new ListDueCommand();
+        }
+
+        if (!StringUtil.isUnsignedInteger(trimmedArgs)) {
+            logger.warning("Invalid number of days for ListDueCommand: " + args);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListDueCommand.MESSAGE_USAGE));
+        }
+
+        int days = Integer.parseInt(trimmedArgs);
+        logger.info("Successfully parsed ListDueCommand for assignments due within " + days + " days");
+        return new ListDueCommand(days);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * A command parsed from the user's input, together with the command word of the command the user named, which is
+ * the same whether the user typed the command word, an alias or an abbreviation.
+ */
+public class ParsedCommand {
+
+    private final String commandWord;
+    private final Command command;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ParsedCommand(String commandWord, Command command) {
+        requireAllNonNull(commandWord, command);
+        this.commandWord = commandWord;
+        this.command = command;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public Command getCommand() {
+        return command;
+    }
+}
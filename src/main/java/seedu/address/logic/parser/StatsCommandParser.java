@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandTimings;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private final CommandTimings commandTimings;
+
+    /**
+     * Creates a StatsCommandParser whose commands show {@code commandTimings}.
+     */
+    public StatsCommandParser(CommandTimings commandTimings) {
+        requireNonNull(commandTimings);
+        this.commandTimings = commandTimings;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        assert args != null : "Input arguments string cannot be null";
+
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand(commandTimings);
+        }
+
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        return new StatsCommand(commandTimings, Paths.get(trimmedArgs));
+    }
+}
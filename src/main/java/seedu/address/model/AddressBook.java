@@ -3,13 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.DueAssignment;
+import seedu.address.model.assignment.DueDateIndex;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.UniqueStudentList;
 import seedu.address.model.subject.Subject;
@@ -23,6 +30,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueStudentList students;
     private final UniqueLessonList lessons;
 
+    // Assignments of every student ordered by due date, kept in sync with students on every mutation
+    private final DueDateIndex dueDateIndex = new DueDateIndex();
+
+    // Lessons grouped by the name of the student taking them, kept in sync with lessons on every mutation
+    private final Map<Name, List<Lesson>> lessonsByStudent = new HashMap<>();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -53,6 +66,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        dueDateIndex.clear();
+        students.forEach(this::indexAssignments);
     }
 
     /**
@@ -61,6 +76,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        lessonsByStudent.clear();
+        lessons.forEach(this::indexLesson);
     }
 
     /**
@@ -83,6 +100,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.contains(student);
     }
 
+    /**
+     * Returns true if a student other than {@code target} has the same identity as {@code student}.
+     * {@code target} must exist in the address book.
+     */
+    public boolean hasStudentOtherThan(Student target, Student student) {
+        requireAllNonNull(target, student);
+        return students.containsOtherThan(target, student);
+    }
+
     /**
      * Returns true if a student has a subject.
      */
@@ -97,6 +123,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStudent(Student p) {
         students.add(p);
+        indexAssignments(p);
     }
 
     /**
@@ -109,6 +136,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        dueDateIndex.remove(target.getName());
+        indexAssignments(editedStudent);
     }
 
     /**
@@ -117,12 +146,41 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        dueDateIndex.remove(key.getName());
     }
 
     //// Assignment-level operations
 
+    /**
+     * Deletes the assignment named {@code assignmentName} from {@code student}.
+     * {@code student} must exist in the address book.
+     */
     public void deleteAssignment(Student student, String assignmentName) {
         students.deleteAssignment(student, assignmentName);
+        dueDateIndex.remove(student.getName());
+        students.find(student).ifPresent(this::indexAssignments);
+    }
+
+    /**
+     * Returns the assignments of all students due from {@code firstDay} to {@code lastDay}, both inclusive,
+     * ordered by due date and then by assignment name.
+     */
+    public List<DueAssignment> getAssignmentsDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        return dueDateIndex.getDueBetween(firstDay.toEpochDay(), lastDay.toEpochDay());
+    }
+
+    /**
+     * Returns the assignments of all students that are not done and were due before {@code today},
+     * ordered by due date and then by assignment name.
+     */
+    public List<DueAssignment> getOverdueAssignments(LocalDate today) {
+        requireNonNull(today);
+        return dueDateIndex.getPendingBefore(today.toEpochDay());
+    }
+
+    private void indexAssignments(Student student) {
+        dueDateIndex.add(student.getName(), student.getAssignments());
     }
 
     //// lesson-level methods
@@ -149,6 +207,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        indexLesson(lesson);
     }
 
     /**
@@ -157,6 +216,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeLesson(Lesson lesson) {
         lessons.remove(lesson);
+        unindexLesson(lesson);
     }
 
     /**
@@ -169,6 +229,61 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(target, editedLesson);
+        unindexLesson(target);
+        indexLesson(editedLesson);
+    }
+
+    /**
+     * Returns the lessons taken by the student named {@code studentName}.
+     */
+    public List<Lesson> getLessonsOf(Name studentName) {
+        requireNonNull(studentName);
+        return List.copyOf(lessonsByStudent.getOrDefault(studentName, List.of()));
+    }
+
+    /**
+     * Removes all lessons taken by the student named {@code studentName} as a single change to the lesson list.
+     */
+    public void removeLessonsOf(Name studentName) {
+        requireNonNull(studentName);
+        List<Lesson> lessonsToRemove = lessonsByStudent.remove(studentName);
+        if (lessonsToRemove != null) {
+            lessons.removeAll(lessonsToRemove);
+        }
+    }
+
+    /**
+     * Moves all lessons taken by the student named {@code oldName} to {@code newName},
+     * as a single change to the lesson list.
+     * The renamed lessons must not be the same as another existing lesson in the address book.
+     */
+    public void renameLessonsOf(Name oldName, Name newName) {
+        requireAllNonNull(oldName, newName);
+        List<Lesson> lessonsToRename = lessonsByStudent.get(oldName);
+        // Name#equals ignores case, but a change in case is still a rename
+        if (oldName.fullName.equals(newName.fullName) || lessonsToRename == null) {
+            return;
+        }
+
+        List<Lesson> renamedLessons = new ArrayList<>(lessonsToRename.size());
+        for (Lesson lesson : lessonsToRename) {
+            renamedLessons.add(new Lesson(lesson.getSubject(), newName, lesson.getDate(), lesson.getTime()));
+        }
+        lessons.setLessons(lessonsToRename, renamedLessons);
+        lessonsByStudent.remove(oldName);
+        renamedLessons.forEach(this::indexLesson);
+    }
+
+    private void indexLesson(Lesson lesson) {
+        lessonsByStudent.computeIfAbsent(lesson.getStudentName(), unused -> new ArrayList<>()).add(lesson);
+    }
+
+    private void unindexLesson(Lesson lesson) {
+        List<Lesson> lessonsOfStudent = lessonsByStudent.get(lesson.getStudentName());
+        lessonsOfStudent.remove(lesson);
+        if (lessonsOfStudent.isEmpty()) {
+            lessonsByStudent.remove(lesson.getStudentName());
+        }
     }
 
     //// util methods
@@ -0,0 +1,222 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * The changes made to the student list and the lesson list of an address book, in the order they were made.
+ * Each change removes a run of records from one of the lists and puts other records in their place, so making
+ * the changes in order to the lists as they were gives the lists as they are.
+ */
+public class AddressBookChanges {
+
+    public static final AddressBookChanges NONE = new AddressBookChanges(List.of(), List.of());
+
+    private final List<Splice<Student>> studentChanges;
+    private final List<Splice<Lesson>> lessonChanges;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AddressBookChanges(List<Splice<Student>> studentChanges, List<Splice<Lesson>> lessonChanges) {
+        requireAllNonNull(studentChanges, lessonChanges);
+        this.studentChanges = List.copyOf(studentChanges);
+        this.lessonChanges = List.copyOf(lessonChanges);
+    }
+
+    public List<Splice<Student>> getStudentChanges() {
+        return studentChanges;
+    }
+
+    public List<Splice<Lesson>> getLessonChanges() {
+        return lessonChanges;
+    }
+
+    public boolean isEmpty() {
+        return studentChanges.isEmpty() && lessonChanges.isEmpty();
+    }
+
+    /**
+     * Returns these changes followed by {@code laterChanges}.
+     */
+    public AddressBookChanges then(AddressBookChanges laterChanges) {
+        requireNonNull(laterChanges);
+        List<Splice<Student>> students = new ArrayList<>(studentChanges);
+        students.addAll(laterChanges.studentChanges);
+        List<Splice<Lesson>> lessons = new ArrayList<>(lessonChanges);
+        lessons.addAll(laterChanges.lessonChanges);
+        return new AddressBookChanges(students, lessons);
+    }
+
+    /**
+     * Returns a copy of these changes whose students do not change when the students in the address book do.
+     * Lessons are immutable and are shared.
+     */
+    public AddressBookChanges copy() {
+        List<Splice<Student>> students = new ArrayList<>(studentChanges.size());
+        for (Splice<Student> change : studentChanges) {
+            students.add(change.map(Student::deepCopy));
+        }
+        return new AddressBookChanges(students, lessonChanges);
+    }
+
+    /**
+     * Adds the changes described by {@code change} to {@code changes}.
+     * Where many records are replaced at once, as happens when a whole list is set, records replaced by
+     * themselves are left out. A single record replaced by itself is kept, as it may have been changed in place.
+     */
+    static <T> void record(ListChangeListener.Change<? extends T> change, List<Splice<T>> changes) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int from = change.getFrom();
+                List<T> permutated = List.copyOf(change.getList().subList(from, change.getTo()));
+                changes.add(new Splice<>(from, permutated.size(), permutated));
+            } else if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()
+                    && change.getAddedSize() > 1) {
+                recordReplacement(change.getFrom(), change.getRemoved(), change.getAddedSubList(), changes);
+            } else if (change.wasRemoved() || change.wasAdded()) {
+                changes.add(new Splice<>(change.getFrom(), change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Adds a change for each run of records in {@code removed} that is not the same object as the record at the
+     * same position in {@code added}.
+     */
+    private static <T> void recordReplacement(int from, List<? extends T> removed, List<? extends T> added,
+            List<Splice<T>> changes) {
+        int i = 0;
+        while (i < removed.size()) {
+            if (removed.get(i) == added.get(i)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < removed.size() && removed.get(i) != added.get(i)) {
+                i++;
+            }
+            changes.add(new Splice<>(from + start, i - start, List.copyOf(added.subList(start, i))));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return studentChanges.equals(otherChanges.studentChanges)
+                && lessonChanges.equals(otherChanges.lessonChanges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentChanges, lessonChanges);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentChanges", studentChanges)
+                .add("lessonChanges", lessonChanges)
+                .toString();
+    }
+
+    /**
+     * A change to a list that removes {@code removedCount} records starting at position {@code from},
+     * and puts the {@code added} records in their place.
+     */
+    public static class Splice<T> {
+        private final int from;
+        private final int removedCount;
+        private final List<T> added;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public Splice(int from, int removedCount, List<T> added) {
+            requireNonNull(added);
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = List.copyOf(added);
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        public List<T> getAdded() {
+            return added;
+        }
+
+        /**
+         * Makes this change to {@code records}.
+         */
+        public void applyTo(List<T> records) {
+            List<T> removed = records.subList(from, from + removedCount);
+            removed.clear();
+            removed.addAll(added);
+        }
+
+        private Splice<T> map(UnaryOperator<T> mapper) {
+            List<T> mapped = new ArrayList<>(added.size());
+            for (T record : added) {
+                mapped.add(mapper.apply(record));
+            }
+            return new Splice<>(from, removedCount, mapped);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Splice)) {
+                return false;
+            }
+
+            Splice<?> otherSplice = (Splice<?>) other;
+            return from == otherSplice.from
+                    && removedCount == otherSplice.removedCount
+                    && added.equals(otherSplice.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removedCount, added);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("from", from)
+                    .add("removedCount", removedCount)
+                    .add("added", added)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats that the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** Compact binary snapshot, which is faster to load but cannot be edited by hand. */
+    BINARY
+}
@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.assignment.DueAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
@@ -57,11 +61,29 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book data is modified through this model.
+     * Two calls returning the same number mean that the data has not changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the changes made to the address book data through this model since the last call, and forgets them.
+     */
+    AddressBookChanges takeAddressBookChanges();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in the address book.
      */
     boolean hasStudent(Student student);
 
+    /**
+     * Returns true if a student other than {@code target} has the same identity as {@code student} in the address
+     * book, whether or not it is shown in the filtered student list.
+     * {@code target} must exist in the address book.
+     */
+    boolean hasStudentOtherThan(Student target, Student student);
+
     /**
      * Returns true if a student has a subject.
      */
@@ -93,6 +115,18 @@ public interface Model {
      */
     void deleteAssignment(Student student, String assignmentName);
 
+    /**
+     * Returns the assignments of all students due from {@code firstDay} to {@code lastDay}, both inclusive,
+     * ordered by due date and then by assignment name.
+     */
+    List<DueAssignment> getAssignmentsDueBetween(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Returns the assignments of all students that are not done and were due before {@code today},
+     * ordered by due date and then by assignment name.
+     */
+    List<DueAssignment> getOverdueAssignments(LocalDate today);
+
     /**
      * Adds the given lesson
      * {@code lesson} must not already exist in the address book
@@ -123,6 +157,22 @@ public interface Model {
      */
     void setLesson(Lesson target, Lesson editedLesson);
 
+    /**
+     * Returns the lessons taken by the student named {@code studentName}.
+     */
+    List<Lesson> getLessonsOfStudent(Name studentName);
+
+    /**
+     * Deletes all lessons taken by the student named {@code studentName}.
+     */
+    void deleteLessonsOfStudent(Name studentName);
+
+    /**
+     * Moves all lessons taken by the student named {@code oldName} to the student named {@code newName}.
+     * The renamed lessons must not be the same as another existing lesson in the address book.
+     */
+    void renameLessonsOfStudent(Name oldName, Name newName);
+
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
 
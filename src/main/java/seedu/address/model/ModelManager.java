@@ -4,14 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookChanges.Splice;
+import seedu.address.model.assignment.DueAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 
@@ -26,6 +33,14 @@ public class ModelManager implements Model {
     private final FilteredList<Student> filteredStudents;
     private final FilteredList<Lesson> filteredLessons;
     private FilteredList<?> filteredCurr;
+
+    // Incremented on every change to the address book data, so that callers can tell whether it needs saving
+    private long addressBookVersion;
+
+    // Changes made to the address book data since they were last taken, so that only those need saving
+    private final List<Splice<Student>> studentChanges = new ArrayList<>();
+    private final List<Splice<Lesson>> lessonChanges = new ArrayList<>();
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -39,6 +54,11 @@ public class ModelManager implements Model {
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
         filteredLessons = new FilteredList<>(this.addressBook.getLessonList());
         filteredCurr = filteredStudents;
+
+        this.addressBook.getStudentList().addListener((ListChangeListener<Student>) change ->
+                AddressBookChanges.record(change, studentChanges));
+        this.addressBook.getLessonList().addListener((ListChangeListener<Lesson>) change ->
+                AddressBookChanges.record(change, lessonChanges));
     }
 
     public ModelManager() {
@@ -85,6 +105,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookVersion++;
     }
 
     @Override
@@ -92,12 +113,31 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        AddressBookChanges changes = new AddressBookChanges(studentChanges, lessonChanges);
+        studentChanges.clear();
+        lessonChanges.clear();
+        return changes;
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
         return addressBook.hasStudent(student);
     }
 
+    @Override
+    public boolean hasStudentOtherThan(Student target, Student student) {
+        requireAllNonNull(target, student);
+        return addressBook.hasStudentOtherThan(target, student);
+    }
+
     @Override
     public boolean hasStudentSubject(Student student, Subject subject) {
         requireAllNonNull(student, subject);
@@ -107,6 +147,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteStudent(Student target) {
         addressBook.removeStudent(target);
+        addressBookVersion++;
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
@@ -114,6 +155,7 @@ public class ModelManager implements Model {
     @Override
     public void addStudent(Student student) {
         addressBook.addStudent(student);
+        addressBookVersion++;
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
@@ -121,14 +163,28 @@ public class ModelManager implements Model {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
         addressBook.setStudent(target, editedStudent);
+        addressBookVersion++;
     }
 
     @Override
     public void deleteAssignment(Student target, String assignmentName) {
         addressBook.deleteAssignment(target, assignmentName);
+        addressBookVersion++;
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public List<DueAssignment> getAssignmentsDueBetween(LocalDate firstDay, LocalDate lastDay) {
+        requireAllNonNull(firstDay, lastDay);
+        return addressBook.getAssignmentsDueBetween(firstDay, lastDay);
+    }
+
+    @Override
+    public List<DueAssignment> getOverdueAssignments(LocalDate today) {
+        requireNonNull(today);
+        return addressBook.getOverdueAssignments(today);
+    }
+
     @Override
     public boolean hasLesson(Lesson lesson) {
         requireNonNull(lesson);
@@ -145,6 +201,7 @@ public class ModelManager implements Model {
     public void addLesson(Lesson lesson) {
         requireNonNull(lesson);
         addressBook.addLesson(lesson);
+        addressBookVersion++;
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
@@ -152,6 +209,7 @@ public class ModelManager implements Model {
     public void deleteLesson(Lesson lesson) {
         requireNonNull(lesson);
         addressBook.removeLesson(lesson);
+        addressBookVersion++;
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
@@ -159,6 +217,31 @@ public class ModelManager implements Model {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
         addressBook.setLesson(target, editedLesson);
+        addressBookVersion++;
+    }
+
+    @Override
+    public List<Lesson> getLessonsOfStudent(Name studentName) {
+        requireNonNull(studentName);
+        return addressBook.getLessonsOf(studentName);
+    }
+
+    @Override
+    public void deleteLessonsOfStudent(Name studentName) {
+        requireNonNull(studentName);
+        addressBook.removeLessonsOf(studentName);
+        addressBookVersion++;
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
+    @Override
+    public void renameLessonsOfStudent(Name oldName, Name newName) {
+        requireAllNonNull(oldName, newName);
+        addressBook.renameLessonsOf(oldName, newName);
+        addressBookVersion++;
+        // A filter on the old name would hide the renamed lessons. The predicate is set directly, as
+        // updateFilteredLessonList would also switch the view to the lesson list.
+        filteredLessons.setPredicate(PREDICATE_SHOW_ALL_LESSONS);
     }
 
     //=========== Filtered Student List Accessors =============================================================
@@ -197,7 +280,8 @@ public class ModelManager implements Model {
 
     @Override
     public boolean isStudentView() {
-        return filteredCurr.equals(filteredStudents);
+        // FilteredList#equals compares the elements, which would mistake an empty lesson list for the student list
+        return filteredCurr == filteredStudents;
     }
 
     @Override
@@ -0,0 +1,63 @@
+package seedu.address.model.assignment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.student.Name;
+
+/**
+ * Represents an assignment together with the name of the student it was set for.
+ * Guarantees: details are present and not null.
+ */
+public class DueAssignment {
+
+    private final Name studentName;
+    private final Assignment assignment;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DueAssignment(Name studentName, Assignment assignment) {
+        requireAllNonNull(studentName, assignment);
+        this.studentName = studentName;
+        this.assignment = assignment;
+    }
+
+    public Name getStudentName() {
+        return studentName;
+    }
+
+    public Assignment getAssignment() {
+        return assignment;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueAssignment otherDueAssignment)) {
+            return false;
+        }
+
+        return studentName.equals(otherDueAssignment.studentName)
+                && assignment.equals(otherDueAssignment.assignment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentName, assignment);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentName", studentName)
+                .add("assignment", assignment)
+                .toString();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.student.Name;
+
+/**
+ * An index over the assignments of every student, ordered by due date and then by assignment name.
+ * Assignments that are not done are also kept in a second index, so that overdue work can be found
+ * without going through assignments that have already been handed in.
+ *
+ * Students are indexed and unindexed as a whole, by name. Since assignments are edited, marked and
+ * deleted through their student, reindexing the student keeps the index up to date.
+ */
+public class DueDateIndex {
+
+    private final TreeMap<DueKey, DueAssignment> allAssignments = new TreeMap<>();
+    private final TreeMap<DueKey, DueAssignment> pendingAssignments = new TreeMap<>();
+
+    // The keys indexed for each student, so that they can be unindexed even after their assignments change
+    private final Map<Name, List<DueKey>> keysByStudent = new HashMap<>();
+
+    /**
+     * Indexes every assignment of the student named {@code studentName}.
+     * The student must not already be indexed.
+     */
+    public void add(Name studentName, Iterable<Assignment> assignments) {
+        requireAllNonNull(studentName, assignments);
+        assert !keysByStudent.containsKey(studentName) : "Student should not be indexed twice";
+
+        List<DueKey> keys = new ArrayList<>();
+        for (Assignment assignment : assignments) {
+            DueKey key = DueKey.of(studentName, assignment);
+            DueAssignment dueAssignment = new DueAssignment(studentName, assignment);
+            allAssignments.put(key, dueAssignment);
+            if (!assignment.isDone()) {
+                pendingAssignments.put(key, dueAssignment);
+            }
+            keys.add(key);
+        }
+        if (!keys.isEmpty()) {
+            keysByStudent.put(studentName, keys);
+        }
+    }
+
+    /**
+     * Removes every assignment of the student named {@code studentName} from the index.
+     */
+    public void remove(Name studentName) {
+        requireNonNull(studentName);
+        List<DueKey> keys = keysByStudent.remove(studentName);
+        if (keys == null) {
+            return;
+        }
+        for (DueKey key : keys) {
+            allAssignments.remove(key);
+            pendingAssignments.remove(key);
+        }
+    }
+
+    /**
+     * Removes every assignment from the index.
+     */
+    public void clear() {
+        allAssignments.clear();
+        pendingAssignments.clear();
+        keysByStudent.clear();
+    }
+
+    /**
+     * Returns the assignments due from {@code firstEpochDay} to {@code lastEpochDay}, both inclusive,
+     * ordered by due date and then by assignment name.
+     */
+    public List<DueAssignment> getDueBetween(long firstEpochDay, long lastEpochDay) {
+        if (firstEpochDay > lastEpochDay) {
+            return List.of();
+        }
+        return new ArrayList<>(allAssignments.subMap(DueKey.startOf(firstEpochDay),
+                DueKey.startOf(lastEpochDay + 1)).values());
+    }
+
+    /**
+     * Returns the assignments that are not done and were due before {@code epochDay},
+     * ordered by due date and then by assignment name.
+     */
+    public List<DueAssignment> getPendingBefore(long epochDay) {
+        return new ArrayList<>(pendingAssignments.headMap(DueKey.startOf(epochDay)).values());
+    }
+
+    /**
+     * Position of an assignment in the index. Unlike the assignment itself, a key does not change
+     * when the assignment is edited or marked.
+     */
+    private static final class DueKey implements Comparable<DueKey> {
+        private final long epochDay;
+        private final String assignmentName;
+        private final String studentName;
+
+        private DueKey(long epochDay, String assignmentName, String studentName) {
+            this.epochDay = epochDay;
+            this.assignmentName = assignmentName;
+            this.studentName = studentName;
+        }
+
+        static DueKey of(Name studentName, Assignment assignment) {
+            return new DueKey(assignment.getDueDate().toEpochDay(), assignment.getAssignmentName(),
+                    studentName.fullName.toLowerCase());
+        }
+
+        /**
+         * Returns a key that comes before every key of an assignment due on {@code epochDay}.
+         */
+        static DueKey startOf(long epochDay) {
+            return new DueKey(epochDay, "", "");
+        }
+
+        @Override
+        public int compareTo(DueKey other) {
+            int byDate = Long.compare(epochDay, other.epochDay);
+            if (byDate != 0) {
+                return byDate;
+            }
+            int byAssignment = assignmentName.compareTo(other.assignmentName);
+            if (byAssignment != 0) {
+                return byAssignment;
+            }
+            return studentName.compareTo(other.studentName);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,7 @@ import seedu.address.model.assignment.expections.DuplicateAssignmentException;
  * #isSameAssignment(Assignment) for equality to ensure that the assignment being added or updated is
  * unique in terms of identity in the UniqueAssignmentList.
  *
+ * Alongside the list, assignments are indexed by name so that lookups by name do not scan the list.
  **/
 public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<Assignment> {
 
@@ -30,12 +33,16 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
     private final ObservableList<Assignment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Assignment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+
+    // Assignments keyed by name, kept in sync with internalList on every mutation
+    private final Map<String, Assignment> nameIndex = new LinkedHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent assignment as the given argument.
      */
     public boolean contains(Assignment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAssignment);
+        return nameIndex.containsKey(toCheck.getAssignmentName());
     }
 
     /**
@@ -48,6 +55,7 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
             throw new DuplicateAssignmentException();
         }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getAssignmentName(), toAdd);
     }
 
     /**
@@ -68,7 +76,9 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
             throw new DuplicateAssignmentException();
         }
 
-        internalList.set(index, editedAssignment);
+        Assignment replacedAssignment = internalList.set(index, editedAssignment);
+        nameIndex.remove(replacedAssignment.getAssignmentName());
+        nameIndex.put(editedAssignment.getAssignmentName(), editedAssignment);
     }
 
     public ObservableList<Assignment> asUnmodifiableObservableList() {
@@ -77,7 +87,8 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
 
     @Override
     public Iterator<Assignment> iterator() {
-        return internalList.iterator();
+        // Iterates over the unmodifiable view so that the name index cannot be bypassed through Iterator#remove
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -126,14 +137,14 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
      */
     public void markAssignment(String assignmentName) throws CommandException {
         requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                if (assignment.isDone()) {
-                    throw new CommandException(MESSAGE_ALREADY_MARKED);
-                }
-                assignment.setDone();
-            }
+        Assignment assignment = nameIndex.get(assignmentName);
+        if (assignment == null) {
+            return;
         }
+        if (assignment.isDone()) {
+            throw new CommandException(MESSAGE_ALREADY_MARKED);
+        }
+        assignment.setDone();
     }
 
     /**
@@ -141,14 +152,14 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
      */
     public void unmarkAssignment(String assignmentName) throws CommandException {
         requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                if (!assignment.isDone()) {
-                    throw new CommandException(MESSAGE_ALREADY_UNMARKED);
-                }
-                assignment.setUndone();
-            }
+        Assignment assignment = nameIndex.get(assignmentName);
+        if (assignment == null) {
+            return;
         }
+        if (!assignment.isDone()) {
+            throw new CommandException(MESSAGE_ALREADY_UNMARKED);
+        }
+        assignment.setUndone();
     }
 
     /**
@@ -156,13 +167,9 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
      */
     public void deleteAssignment(String assignmentName) {
         requireNonNull(assignmentName);
-        Iterator<Assignment> iterator = internalList.iterator();
-        while (iterator.hasNext()) {
-            Assignment assignment = iterator.next();
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                iterator.remove();
-                break;
-            }
+        Assignment assignment = nameIndex.remove(assignmentName);
+        if (assignment != null) {
+            internalList.remove(assignment);
         }
     }
 
@@ -172,15 +179,14 @@ public class UniqueAssignmentList implements Iterable<Assignment>, Comparator<As
      */
     public Assignment getAssignment(String assignmentName) {
         requireNonNull(assignmentName);
-        for (Assignment assignment : internalList) {
-            if (assignment.getAssignmentName().equals(assignmentName)) {
-                return assignment;
-            }
-        }
-        return null;
+        return nameIndex.get(assignmentName);
     }
 
+    /**
+     * Removes all assignments from the list.
+     */
     public void clear() {
         internalList.clear();
+        nameIndex.clear();
     }
 }
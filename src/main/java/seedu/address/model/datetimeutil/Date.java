@@ -19,18 +19,55 @@ public class Date implements Comparable<Date> {
             + "\nand must be a future date (after today)";
     public static final DateTimeFormatter VALID_FORMAT = DateTimeFormatter.ofPattern("d-M-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    private static final DateTimeFormatter INPUT_FORMAT = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
 
     public final String date;
 
+    // Parsed once on construction so that comparisons and display do not have to parse the string again
+    private final long epochDay;
+    private final String displayDate;
+
     /**
      * Constructs a {@code Date}.
      *
      * @param date A valid date.
      */
     public Date(String date) {
+        this(date, parse(date));
+    }
+
+    private Date(String date, LocalDate parsedDate) {
+        this.date = date;
+        epochDay = parsedDate.toEpochDay();
+        displayDate = DISPLAY_FORMAT.format(parsedDate);
+    }
+
+    private static LocalDate parse(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        this.date = date;
+        return LocalDate.parse(date, VALID_FORMAT);
+    }
+
+    /**
+     * Returns the {@code Date} that is {@code epochDay} days after the epoch (1970-01-01).
+     *
+     * @param epochDay A valid epoch day, as declared in {@link #isValidEpochDay(long)}.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        checkArgument(isValidEpochDay(epochDay), MESSAGE_CONSTRAINTS);
+        LocalDate parsedDate = LocalDate.ofEpochDay(epochDay);
+        return new Date(INPUT_FORMAT.format(parsedDate), parsedDate);
+    }
+
+    /**
+     * Returns true if the date {@code epochDay} days after the epoch (1970-01-01) is a valid date.
+     */
+    public static boolean isValidEpochDay(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY
+                && LocalDate.ofEpochDay(epochDay).isAfter(LocalDate.now());
     }
 
     /**
@@ -48,7 +85,7 @@ public class Date implements Comparable<Date> {
 
     @Override
     public String toString() {
-        return DateTimeFormatter.ofPattern("dd MMM yyyy").format(LocalDate.parse(date, VALID_FORMAT));
+        return displayDate;
     }
 
     @Override
@@ -62,15 +99,23 @@ public class Date implements Comparable<Date> {
             return false;
         }
 
-        return LocalDate.parse(this.date, VALID_FORMAT).equals(LocalDate.parse(otherDate.date, VALID_FORMAT));
+        return epochDay == otherDate.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        return Long.hashCode(epochDay);
     }
 
+    /**
+     * Returns the number of days between the epoch (1970-01-01) and this date.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    @Override
     public int compareTo(Date dueDate) {
-        return LocalDate.parse(this.date, VALID_FORMAT).compareTo(LocalDate.parse(dueDate.date, VALID_FORMAT));
+        return Long.compare(epochDay, dueDate.epochDay);
     }
 }
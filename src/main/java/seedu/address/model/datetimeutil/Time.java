@@ -11,22 +11,56 @@ import java.time.format.DateTimeParseException;
  * Represents a Lesson's time in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}
  */
-public class Time {
+public class Time implements Comparable<Time> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Error: Time should be of format: HH:MM, be in 24 hour format.";
     public static final DateTimeFormatter VALID_FORMAT = DateTimeFormatter.ofPattern("H:m");
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
     public final String time;
 
+    // Parsed once on construction so that comparisons do not have to parse the string again
+    private final int minuteOfDay;
+
     /**
      * Constructs a {@code Time}.
      *
      * @param time A valid time.
      */
     public Time(String time) {
+        this(time, parse(time));
+    }
+
+    private Time(String time, int minuteOfDay) {
+        this.time = time;
+        this.minuteOfDay = minuteOfDay;
+    }
+
+    private static int parse(String time) {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        this.time = time;
+        LocalTime parsedTime = LocalTime.parse(time, VALID_FORMAT);
+        return parsedTime.getHour() * MINUTES_PER_HOUR + parsedTime.getMinute();
+    }
+
+    /**
+     * Returns the {@code Time} that is {@code minuteOfDay} minutes after midnight.
+     *
+     * @param minuteOfDay A valid minute of the day, as declared in {@link #isValidMinuteOfDay(int)}.
+     */
+    public static Time ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(isValidMinuteOfDay(minuteOfDay), MESSAGE_CONSTRAINTS);
+        String time = String.format("%02d:%02d", minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+        return new Time(time, minuteOfDay);
+    }
+
+    /**
+     * Returns true if {@code minuteOfDay} minutes after midnight is a valid time.
+     */
+    public static boolean isValidMinuteOfDay(int minuteOfDay) {
+        return minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY;
     }
 
     /**
@@ -42,6 +76,13 @@ public class Time {
         return true;
     }
 
+    /**
+     * Returns the number of minutes between midnight and this time.
+     */
+    public int toMinuteOfDay() {
+        return minuteOfDay;
+    }
+
     @Override
     public String toString() {
         return time;
@@ -58,11 +99,16 @@ public class Time {
             return false;
         }
 
-        return LocalTime.parse(this.time, VALID_FORMAT).equals(LocalTime.parse(otherTime.time, VALID_FORMAT));
+        return minuteOfDay == otherTime.minuteOfDay;
     }
 
     @Override
     public int hashCode() {
-        return time.hashCode();
+        return minuteOfDay;
+    }
+
+    @Override
+    public int compareTo(Time otherTime) {
+        return Integer.compare(minuteOfDay, otherTime.minuteOfDay);
     }
 }
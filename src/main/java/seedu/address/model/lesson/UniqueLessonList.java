@@ -1,13 +1,23 @@
 package seedu.address.model.lesson;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 
@@ -22,20 +32,28 @@ import seedu.address.model.lesson.exceptions.LessonNotFoundException;
  * to ensure that the lesson with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, lessons are kept in a schedule ordered by date and then time, so that
+ * duplicate checks, clash checks and lookups by date do not have to scan every lesson ever booked.
+ *
  * @see Lesson#equals(Object)
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Lessons keyed by their time slot, kept in sync with internalList on every mutation
+    private final TreeMap<Long, List<Lesson>> schedule = new TreeMap<>();
+
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return isScheduled(schedule, toCheck);
     }
 
     /**
@@ -43,7 +61,18 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public boolean clashes(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isConflict);
+        return schedule.containsKey(slotOf(toCheck));
+    }
+
+    /**
+     * Returns the lessons on {@code date}, ordered by time.
+     */
+    public List<Lesson> getLessonsOn(Date date) {
+        requireNonNull(date);
+        long firstSlot = date.toEpochDay() * MINUTES_PER_DAY;
+        List<Lesson> lessonsOnDate = new ArrayList<>();
+        schedule.subMap(firstSlot, firstSlot + MINUTES_PER_DAY).values().forEach(lessonsOnDate::addAll);
+        return lessonsOnDate;
     }
 
     /**
@@ -56,6 +85,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
         internalList.add(toAdd);
+        addToSchedule(schedule, toAdd);
     }
 
     /**
@@ -75,7 +105,9 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
+        removeFromSchedule(internalList.get(index));
         internalList.set(index, editedLesson);
+        addToSchedule(schedule, editedLesson);
     }
 
     /**
@@ -84,14 +116,64 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        removeFromSchedule(internalList.remove(index));
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list as a single change to the list.
+     * Every lesson in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Lesson> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Lesson> storedLessons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Lesson lesson : toRemove) {
+            storedLessons.add(findStored(lesson));
+        }
+
+        storedLessons.forEach(this::removeFromSchedule);
+        internalList.removeAll(storedLessons);
+    }
+
+    /**
+     * Replaces each lesson in {@code targets} with the lesson at the same position in {@code editedLessons},
+     * as a single change to the list.
+     * Every lesson in {@code targets} must exist in the list.
+     * The edited lessons must not be the same as each other, or as any lesson in the list that is not replaced.
+     */
+    public void setLessons(List<Lesson> targets, List<Lesson> editedLessons) {
+        requireAllNonNull(targets, editedLessons);
+        checkArgument(targets.size() == editedLessons.size(), "Every target needs exactly one edited lesson.");
+
+        Map<Lesson, Lesson> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(findStored(targets.get(i)), editedLessons.get(i));
+        }
+        buildSchedule(editedLessons); // throws if the edited lessons are not unique among themselves
+        for (Lesson editedLesson : editedLessons) {
+            Lesson clashingLesson = getScheduled(schedule, editedLesson);
+            if (clashingLesson != null && !replacements.containsKey(clashingLesson)) {
+                throw new DuplicateLessonException();
+            }
+        }
+
+        replacements.keySet().forEach(this::removeFromSchedule);
+        editedLessons.forEach(editedLesson -> addToSchedule(schedule, editedLesson));
+        List<Lesson> updatedLessons = new ArrayList<>(internalList.size());
+        for (Lesson lesson : internalList) {
+            updatedLessons.add(replacements.getOrDefault(lesson, lesson));
+        }
+        internalList.setAll(updatedLessons);
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        schedule.clear();
+        replacement.schedule.forEach((slot, lessons) -> schedule.put(slot, new ArrayList<>(lessons)));
     }
 
     /**
@@ -100,11 +182,11 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
-        }
+        TreeMap<Long, List<Lesson>> newSchedule = buildSchedule(lessons);
 
         internalList.setAll(lessons);
+        schedule.clear();
+        schedule.putAll(newSchedule);
     }
 
     /**
@@ -116,7 +198,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
 
     @Override
     public Iterator<Lesson> iterator() {
-        return internalList.iterator();
+        // Iterates over the unmodifiable view so that the schedule cannot be bypassed through Iterator#remove
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -143,17 +226,73 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return internalList.toString();
     }
 
+    private void removeFromSchedule(Lesson lesson) {
+        long slot = slotOf(lesson);
+        List<Lesson> lessonsInSlot = schedule.get(slot);
+        lessonsInSlot.remove(lesson);
+        if (lessonsInSlot.isEmpty()) {
+            schedule.remove(slot);
+        }
+    }
+
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns a schedule of {@code lessons}, built in a single pass.
+     *
+     * @throws DuplicateLessonException if {@code lessons} contains duplicate lessons.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+    private static TreeMap<Long, List<Lesson>> buildSchedule(Collection<Lesson> lessons) {
+        TreeMap<Long, List<Lesson>> newSchedule = new TreeMap<>();
+        for (Lesson lesson : lessons) {
+            if (isScheduled(newSchedule, lesson)) {
+                throw new DuplicateLessonException();
             }
+            addToSchedule(newSchedule, lesson);
         }
-        return true;
+        return newSchedule;
+    }
+
+    /**
+     * Returns the lesson held by this list that is equal to {@code lesson}.
+     *
+     * @throws LessonNotFoundException if there is no such lesson.
+     */
+    private Lesson findStored(Lesson lesson) {
+        Lesson storedLesson = getScheduled(schedule, lesson);
+        if (storedLesson == null) {
+            throw new LessonNotFoundException();
+        }
+        return storedLesson;
+    }
+
+    private static boolean isScheduled(NavigableMap<Long, List<Lesson>> schedule, Lesson toCheck) {
+        return getScheduled(schedule, toCheck) != null;
+    }
+
+    /**
+     * Returns the lesson in {@code schedule} that is equal to {@code toFind}, or null if there is none.
+     */
+    private static Lesson getScheduled(NavigableMap<Long, List<Lesson>> schedule, Lesson toFind) {
+        List<Lesson> lessonsInSlot = schedule.get(slotOf(toFind));
+        if (lessonsInSlot == null) {
+            return null;
+        }
+        for (Lesson lesson : lessonsInSlot) {
+            if (lesson.equals(toFind)) {
+                return lesson;
+            }
+        }
+        return null;
+    }
+
+    private static void addToSchedule(NavigableMap<Long, List<Lesson>> schedule, Lesson lesson) {
+        schedule.computeIfAbsent(slotOf(lesson), unused -> new ArrayList<>(1)).add(lesson);
+    }
+
+    /**
+     * Returns the time slot of {@code lesson}, counted in minutes from the epoch.
+     * Lessons that clash share the same slot.
+     */
+    private static long slotOf(Lesson lesson) {
+        return lesson.getDate().toEpochDay() * MINUTES_PER_DAY + lesson.getTime().toMinuteOfDay();
     }
 }
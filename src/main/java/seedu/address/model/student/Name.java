@@ -75,7 +75,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // consistent with equals, which ignores case
+        return fullName.toLowerCase().hashCode();
     }
 
 }
@@ -215,6 +215,19 @@ public class Student {
         return new Student(name, phone, email, address, subjects, assignments);
     }
 
+    /**
+     * Returns a copy of this student with its own copy of the assignments, so that adding, marking or deleting
+     * assignments of either student does not change the other.
+     */
+    public Student deepCopy() {
+        UniqueAssignmentList copiedAssignments = new UniqueAssignmentList();
+        for (Assignment assignment : assignments) {
+            copiedAssignments.add(new Assignment(assignment.getAssignmentName(), assignment.getDueDate(),
+                    assignment.isDone()));
+        }
+        return new Student(name, phone, email, address, subjects, copiedAssignments);
+    }
+
     public void clearAssignments() {
         assignments.clear();
     }
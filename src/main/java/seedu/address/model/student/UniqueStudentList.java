@@ -3,8 +3,12 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,6 +27,11 @@ import seedu.address.model.subject.Subject;
  * to ensure that the student with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
  *
+ * The list keeps case-insensitive hash indexes on the name, phone and email of every student it holds,
+ * so that identity checks and lookups do not have to scan the whole list. It also keeps the position of every
+ * student, so that a student can be replaced in place without searching for it. Removing a student still takes
+ * time linear in the number of students after it, as they all move up one place.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
@@ -31,12 +40,46 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, kept in sync with internalList on every mutation
+    private final Map<String, Student> nameIndex = new HashMap<>();
+    private final Map<String, Student> phoneIndex = new HashMap<>();
+    private final Map<String, Student> emailIndex = new HashMap<>();
+    /** Positions in internalList, keyed like nameIndex. */
+    private final Map<String, Integer> positions = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return nameIndex.containsKey(nameKey(toCheck))
+                || phoneIndex.containsKey(phoneKey(toCheck))
+                || emailIndex.containsKey(emailKey(toCheck));
+    }
+
+    /**
+     * Returns true if a student in the list other than {@code target} has the same identity as {@code toCheck}.
+     * {@code target} must exist in the list.
+     */
+    public boolean containsOtherThan(Student target, Student toCheck) {
+        requireAllNonNull(target, toCheck);
+        return isClaimedByOther(toCheck, internalList.get(positionOf(target)));
+    }
+
+    /**
+     * Returns the student in the list with the same identity as {@code toFind}, if any.
+     * A match on name takes precedence over a match on phone, which takes precedence over a match on email.
+     */
+    public Optional<Student> find(Student toFind) {
+        requireNonNull(toFind);
+        Student found = nameIndex.get(nameKey(toFind));
+        if (found == null) {
+            found = phoneIndex.get(phoneKey(toFind));
+        }
+        if (found == null) {
+            found = emailIndex.get(emailKey(toFind));
+        }
+        return Optional.ofNullable(found);
     }
 
     /**
@@ -48,7 +91,9 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        positions.put(nameKey(toAdd), internalList.size());
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -59,16 +104,17 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new StudentNotFoundException();
-        }
-
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+        int index = positionOf(target);
+        Student existing = internalList.get(index);
+        if (isClaimedByOther(editedStudent, existing)) {
             throw new DuplicateStudentException();
         }
 
+        unindex(existing);
+        positions.remove(nameKey(existing));
         internalList.set(index, editedStudent);
+        index(editedStudent);
+        positions.put(nameKey(editedStudent), index);
     }
 
     /**
@@ -77,14 +123,26 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new StudentNotFoundException();
+        int index = positionOf(toRemove);
+        Student removed = internalList.remove(index);
+        unindex(removed);
+        positions.remove(nameKey(removed));
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(nameKey(internalList.get(i)), i);
         }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
+        emailIndex.clear();
+        emailIndex.putAll(replacement.emailIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
     }
 
     /**
@@ -93,11 +151,21 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
-        }
+        Map<String, Student> newNameIndex = buildIndex(students, UniqueStudentList::nameKey);
+        Map<String, Student> newPhoneIndex = buildIndex(students, UniqueStudentList::phoneKey);
+        Map<String, Student> newEmailIndex = buildIndex(students, UniqueStudentList::emailKey);
 
         internalList.setAll(students);
+        nameIndex.clear();
+        nameIndex.putAll(newNameIndex);
+        phoneIndex.clear();
+        phoneIndex.putAll(newPhoneIndex);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        positions.clear();
+        for (int i = 0; i < students.size(); i++) {
+            positions.put(nameKey(students.get(i)), i);
+        }
     }
 
     /**
@@ -105,11 +173,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean hasStudentSubjects(Student student, Subject subject) {
         requireAllNonNull(student, subject);
-        Student studentFound = internalList.stream().filter(student::isSameStudent).findFirst().orElse(null);
-        if (studentFound == null) {
-            throw new StudentNotFoundException();
-        }
-
+        Student studentFound = find(student).orElseThrow(StudentNotFoundException::new);
         return studentFound.hasSubject(subject);
     }
 
@@ -119,10 +183,7 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void deleteAssignment(Student target, String assignmentName) {
         requireAllNonNull(target, assignmentName);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new StudentNotFoundException();
-        }
+        int index = positionOf(target);
         Student student = internalList.get(index);
         student.deleteAssignment(assignmentName);
         internalList.set(index, student);
@@ -137,7 +198,8 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        // Iterates over the unmodifiable view so that the indexes cannot be bypassed through Iterator#remove
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -166,16 +228,69 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position in the list of the student equal to {@code student}.
+     *
+     * @throws StudentNotFoundException if there is no such student.
+     */
+    private int positionOf(Student student) {
+        // Equal students have equal names, so the student with the same name is the only one that can match
+        Student candidate = nameIndex.get(nameKey(student));
+        if (candidate == null || !candidate.equals(student)) {
+            throw new StudentNotFoundException();
+        }
+        return positions.get(nameKey(candidate));
+    }
+
+    /**
+     * Returns true if any identity field of {@code student} belongs to a student in the list other than
+     * {@code self}.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private boolean isClaimedByOther(Student student, Student self) {
+        return isOtherStudent(nameIndex.get(nameKey(student)), self)
+                || isOtherStudent(phoneIndex.get(phoneKey(student)), self)
+                || isOtherStudent(emailIndex.get(emailKey(student)), self);
+    }
+
+    private static boolean isOtherStudent(Student owner, Student self) {
+        return owner != null && owner != self;
+    }
+
+    private void index(Student student) {
+        nameIndex.put(nameKey(student), student);
+        phoneIndex.put(phoneKey(student), student);
+        emailIndex.put(emailKey(student), student);
+    }
+
+    private void unindex(Student student) {
+        nameIndex.remove(nameKey(student));
+        phoneIndex.remove(phoneKey(student));
+        emailIndex.remove(emailKey(student));
+    }
+
+    /**
+     * Returns an index of {@code students} keyed by {@code keyExtractor}, built in a single pass.
+     *
+     * @throws DuplicateStudentException if two students share the same key.
+     */
+    private static Map<String, Student> buildIndex(List<Student> students, Function<Student, String> keyExtractor) {
+        Map<String, Student> index = new HashMap<>(students.size() * 2);
+        for (Student student : students) {
+            if (index.putIfAbsent(keyExtractor.apply(student), student) != null) {
+                throw new DuplicateStudentException();
             }
         }
-        return true;
+        return index;
+    }
+
+    private static String nameKey(Student student) {
+        return student.getName().fullName.toLowerCase();
+    }
+
+    private static String phoneKey(Student student) {
+        return student.getPhone().value;
+    }
+
+    private static String emailKey(Student student) {
+        return student.getEmail().value.toLowerCase();
     }
 }
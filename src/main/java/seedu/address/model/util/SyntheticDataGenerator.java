@@ -0,0 +1,250 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.datetimeutil.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Generates large, valid address books for benchmarks and load tests, where {@link SampleDataUtil} is too small.
+ *
+ * The same seed always gives the same data. Each record is worked out from the seed and its position alone,
+ * so records are only created as they are asked for, and an address book with millions of records can be
+ * written out without ever being held in memory as a whole.
+ * Students have unique names, phones and emails, and lessons are for generated students and never clash.
+ */
+public class SyntheticDataGenerator {
+
+    /** Phone numbers are handed out in order from 80000000, so there are only this many of them. */
+    public static final int MAX_STUDENT_COUNT = 20_000_000;
+
+    public static final String MESSAGE_INVALID_COUNTS = "Counts cannot be negative, there can be at most "
+            + MAX_STUDENT_COUNT + " students, and lessons need at least one student.";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Zoy", "Aisha", "Benjamin", "Chloe", "Darren",
+        "Elaine", "Farhan", "Grace", "Hui Min", "Ivan", "Jia Hui", "Kumar", "Li Ting", "Marcus", "Nurul", "Oliver",
+        "Priya", "Qi Xuan", "Rachel", "Siddharth", "Tessa", "Umar", "Vanessa", "Wei Jie", "Xin Yi", "Yusuf", "Zhi Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "White", "Tan", "Lim", "Lee", "Ng", "Ong", "Wong",
+        "Goh", "Chua", "Koh", "Teo", "Ang", "Chan", "Rahman", "Kumar", "Pillai", "Fernandez", "Nair", "Ho", "Low"
+    };
+    private static final String[] STREETS = {
+        "Ang Mo Kio Street 74", "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Tampines Street 20",
+        "Aljunied Street 85", "Clementi Avenue 3", "Jurong West Street 41", "Bedok North Road", "Woodlands Drive 14",
+        "Toa Payoh Lorong 1", "Bukit Batok Street 21", "Hougang Avenue 8"
+    };
+    private static final String[] ASSIGNMENT_KINDS = {
+        "Worksheet", "Essay", "Quiz", "Problem Set", "Project", "Lab Report", "Reading"
+    };
+
+    /** Subjects students take, each drawn in proportion to its weight out of {@code SUBJECT_WEIGHT_TOTAL}. */
+    private static final String[] SUBJECTS = {
+        "Math", "English", "Physics", "Chemistry", "Biology", "Science", "Additional Math", "Economics",
+        "Literature", "History", "Geography", "Chinese", "Malay", "Tamil", "Computing"
+    };
+    private static final int[] SUBJECT_WEIGHTS = {30, 22, 12, 11, 9, 8, 7, 5, 4, 4, 3, 6, 2, 2, 3};
+    private static final int SUBJECT_WEIGHT_TOTAL = 128;
+    private static final int MAX_SUBJECTS_PER_STUDENT = 3;
+
+    /** Lessons and assignments are due from this day on, which stays in the future for a long time. */
+    private static final long FIRST_DAY = new Date("05-01-2030").toEpochDay();
+    private static final int ASSIGNMENT_DAYS = 365;
+    private static final int PERCENT_ASSIGNMENTS_DONE = 30;
+
+    /** Lessons fill half-hour slots from 08:00 to the last one starting at 21:30, one day after another. */
+    private static final int FIRST_LESSON_MINUTE = 8 * 60;
+    private static final int MINUTES_BETWEEN_LESSONS = 30;
+    private static final int LESSONS_PER_DAY = 28;
+
+    private static final long STUDENT_SALT = 0x53545544454e54L;
+    private static final long LESSON_SALT = 0x4c4553534f4eL;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final String[] firstNames;
+    private final String[] lastNames;
+
+    /**
+     * Creates a generator whose data is determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+        this.firstNames = shuffled(FIRST_NAMES, new Random(seed));
+        this.lastNames = shuffled(LAST_NAMES, new Random(~seed));
+    }
+
+    /**
+     * Returns an address book of {@code studentCount} students, each with {@code assignmentsPerStudent}
+     * assignments, and {@code lessonCount} lessons.
+     * Records in the returned address book are generated each time they are read, and are not kept.
+     */
+    public ReadOnlyAddressBook generate(int studentCount, int lessonCount, int assignmentsPerStudent) {
+        checkArgument(studentCount >= 0 && studentCount <= MAX_STUDENT_COUNT && lessonCount >= 0
+                && assignmentsPerStudent >= 0 && (lessonCount == 0 || studentCount > 0), MESSAGE_INVALID_COUNTS);
+
+        List<Student> students = new GeneratedList<>(studentCount,
+                index -> getStudent(index, assignmentsPerStudent));
+        List<Lesson> lessons = new GeneratedList<>(lessonCount, index -> getLesson(index, studentCount));
+        return new GeneratedAddressBook(students, lessons);
+    }
+
+    /**
+     * Returns the {@code index}th student, with {@code assignmentCount} assignments.
+     */
+    public Student getStudent(int index, int assignmentCount) {
+        checkArgument(index >= 0 && index < MAX_STUDENT_COUNT && assignmentCount >= 0, MESSAGE_INVALID_COUNTS);
+        SplittableRandom random = randomFor(STUDENT_SALT, index);
+        Set<Subject> subjects = drawSubjects(random);
+
+        String name = nameOf(index);
+        String email = name.replace(" ", ".").toLowerCase() + "@example.com";
+        String address = "Blk " + (1 + random.nextInt(999)) + " " + STREETS[random.nextInt(STREETS.length)]
+                + String.format(", #%02d-%02d", 1 + random.nextInt(25), 1 + random.nextInt(60));
+
+        UniqueAssignmentList assignments = new UniqueAssignmentList();
+        for (int i = 0; i < assignmentCount; i++) {
+            String assignmentName = ASSIGNMENT_KINDS[random.nextInt(ASSIGNMENT_KINDS.length)] + " " + (i + 1);
+            Date dueDate = Date.ofEpochDay(FIRST_DAY + random.nextInt(ASSIGNMENT_DAYS));
+            assignments.add(new Assignment(assignmentName, dueDate,
+                    random.nextInt(100) < PERCENT_ASSIGNMENTS_DONE));
+        }
+
+        return new Student(new Name(name), new Phone(String.valueOf(80000000 + index)), new Email(email),
+                new Address(address), subjects, assignments);
+    }
+
+    /**
+     * Returns the {@code index}th lesson, for one of the first {@code studentCount} students
+     * in one of the subjects they take. Every lesson has a time slot of its own.
+     */
+    public Lesson getLesson(int index, int studentCount) {
+        checkArgument(index >= 0 && studentCount > 0 && studentCount <= MAX_STUDENT_COUNT, MESSAGE_INVALID_COUNTS);
+        SplittableRandom random = randomFor(LESSON_SALT, index);
+        int studentIndex = random.nextInt(studentCount);
+        List<Subject> subjects = new ArrayList<>(drawSubjects(randomFor(STUDENT_SALT, studentIndex)));
+
+        return new Lesson(subjects.get(random.nextInt(subjects.size())), new Name(nameOf(studentIndex)),
+                Date.ofEpochDay(FIRST_DAY + index / LESSONS_PER_DAY),
+                Time.ofMinuteOfDay(FIRST_LESSON_MINUTE + index % LESSONS_PER_DAY * MINUTES_BETWEEN_LESSONS));
+    }
+
+    /**
+     * Returns the name of the {@code index}th student, which no other student has.
+     */
+    private String nameOf(int index) {
+        String firstName = firstNames[index % firstNames.length];
+        String lastName = lastNames[index / firstNames.length % lastNames.length];
+        // Students past every combination of first and last name are told apart by a number after their name
+        int round = index / (firstNames.length * lastNames.length);
+        return firstName + " " + lastName + (round == 0 ? "" : " " + (round + 1));
+    }
+
+    /**
+     * Returns one to {@link #MAX_SUBJECTS_PER_STUDENT} different subjects, more common subjects being more likely.
+     */
+    private static Set<Subject> drawSubjects(SplittableRandom random) {
+        int subjectCount = 1 + random.nextInt(MAX_SUBJECTS_PER_STUDENT);
+        Set<Subject> subjects = new LinkedHashSet<>();
+        while (subjects.size() < subjectCount) {
+            int draw = random.nextInt(SUBJECT_WEIGHT_TOTAL);
+            int subject = 0;
+            while (draw >= SUBJECT_WEIGHTS[subject]) {
+                draw -= SUBJECT_WEIGHTS[subject];
+                subject++;
+            }
+            subjects.add(new Subject(SUBJECTS[subject]));
+        }
+        return subjects;
+    }
+
+    private SplittableRandom randomFor(long salt, int index) {
+        return new SplittableRandom(seed ^ salt ^ (index * GOLDEN_GAMMA));
+    }
+
+    private static String[] shuffled(String[] strings, Random random) {
+        List<String> list = new ArrayList<>(List.of(strings));
+        Collections.shuffle(list, random);
+        return list.toArray(new String[0]);
+    }
+
+    /**
+     * Generates the record at a position in a {@link GeneratedList}.
+     */
+    @FunctionalInterface
+    private interface RecordGenerator<T> {
+        T generate(int index);
+    }
+
+    /**
+     * An unmodifiable list whose elements are generated whenever they are read.
+     */
+    private static class GeneratedList<T> extends AbstractList<T> {
+        private final int size;
+        private final RecordGenerator<T> generator;
+
+        GeneratedList(int size, RecordGenerator<T> generator) {
+            this.size = size;
+            this.generator = generator;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return generator.generate(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * An address book over generated students and lessons.
+     */
+    private static class GeneratedAddressBook implements ReadOnlyAddressBook {
+        private final ObservableList<Student> students;
+        private final ObservableList<Lesson> lessons;
+
+        GeneratedAddressBook(List<Student> students, List<Lesson> lessons) {
+            // FXCollections#observableList wraps the given list instead of copying it
+            this.students = FXCollections.unmodifiableObservableList(FXCollections.observableList(students));
+            this.lessons = FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons));
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public ObservableList<Lesson> getLessonList() {
+            return lessons;
+        }
+    }
+}
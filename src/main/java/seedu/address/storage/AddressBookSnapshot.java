@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * A copy of an address book that does not change when the address book does, so that it can be written on
+ * another thread. Unlike {@code AddressBook}, it does not build any lookup indexes, as it is only ever read once
+ * in order.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ObservableList<Student> students;
+    private final ObservableList<Lesson> lessons;
+
+    private AddressBookSnapshot(List<Student> students, List<Lesson> lessons) {
+        this.students = FXCollections.unmodifiableObservableList(FXCollections.observableList(students));
+        this.lessons = FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons));
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}.
+     * Lessons are immutable and are shared, but assignments can be marked in place, so students are copied.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook; // already does not change
+        }
+        List<Student> students = addressBook.getStudentList().stream()
+                .map(Student::deepCopy)
+                .toList();
+        return new AddressBookSnapshot(students, List.copyOf(addressBook.getLessonList()));
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return lessons;
+    }
+}
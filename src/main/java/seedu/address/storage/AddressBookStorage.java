@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, given that {@code changes} are the changes made
+     * to it since it was last read from or saved to the storage. Storages that can save just the changes do so.
+     * @param addressBook can only be null if {@link #isAddressBookNeededToSaveChanges()} returned false.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file, or if {@code addressBook} is null but the
+     *     changes could not be saved on their own after all.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException;
+
+    /**
+     * Returns true if the next {@link #saveAddressBookChanges} needs the whole address book rather than just the
+     * changes, e.g. because it writes the whole address book.
+     */
+    default boolean isAddressBookNeededToSaveChanges() {
+        return true;
+    }
+
 }
@@ -0,0 +1,396 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.AddAssignmentCommand.MESSAGE_DUPLICATE_ASSIGNMENT;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.UniqueAssignmentList;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.datetimeutil.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Address;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number and the format version. It is followed by a table of the distinct
+ * student, subject and assignment names, which the student and lesson records refer to by position, so
+ * that each distinct name is stored and validated only once. Strings are stored as their length followed
+ * by their UTF-8 bytes, dates as days since the epoch and times as minutes since midnight.
+ * The file is read into memory in one go through a {@code FileChannel}. It is not memory-mapped, as a mapping keeps
+ * the file open on Windows until it is garbage collected, which stops the file from being replaced or renamed.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is truncated or corrupted.";
+
+    private static final int MAGIC = 0x54544142; // "TTAB"
+    private static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the binary address book that goes with the JSON address book at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(parseAddressBook(readFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous contents are kept at {@link FileUtil#getBackupPath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomicallyKeepingBackup(filePath, out ->
+                writeAddressBook(addressBook, new DataOutputStream(out)));
+    }
+
+    /**
+     * Saves the whole of {@code addressBook}, as this format cannot save just the changes.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath} in a heap buffer.
+     */
+    private static ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to read: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    break; // the file got shorter while being read, so it is parsed as a truncated file
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static void writeAddressBook(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        // Collect the distinct names first, as the table has to come before the records that refer to it
+        Map<String, Integer> stringTable = new HashMap<>();
+        for (Student student : addressBook.getStudentList()) {
+            addToTable(stringTable, student.getName().fullName);
+            student.getSubjects().forEach(subject -> addToTable(stringTable, subject.subjectName));
+            student.getAssignments().forEach(assignment -> addToTable(stringTable, assignment.getAssignmentName()));
+        }
+        for (Lesson lesson : addressBook.getLessonList()) {
+            addToTable(stringTable, lesson.getStudentName().fullName);
+            addToTable(stringTable, lesson.getSubject().subjectName);
+        }
+        String[] strings = new String[stringTable.size()];
+        stringTable.forEach((string, index) -> strings[index] = string);
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(strings.length);
+        for (String string : strings) {
+            writeString(out, string);
+        }
+
+        out.writeInt(addressBook.getStudentList().size());
+        for (Student student : addressBook.getStudentList()) {
+            out.writeInt(stringTable.get(student.getName().fullName));
+            writeString(out, student.getPhone().value);
+            writeString(out, student.getEmail().value);
+            writeString(out, student.getAddress().value);
+            out.writeInt(student.getSubjects().size());
+            for (Subject subject : student.getSubjects()) {
+                out.writeInt(stringTable.get(subject.subjectName));
+            }
+            out.writeInt(student.getAssignments().asUnmodifiableObservableList().size());
+            for (Assignment assignment : student.getAssignments()) {
+                out.writeInt(stringTable.get(assignment.getAssignmentName()));
+                out.writeLong(assignment.getDueDate().toEpochDay());
+                out.writeBoolean(assignment.isDone());
+            }
+        }
+
+        out.writeInt(addressBook.getLessonList().size());
+        for (Lesson lesson : addressBook.getLessonList()) {
+            out.writeInt(stringTable.get(lesson.getStudentName().fullName));
+            out.writeInt(stringTable.get(lesson.getSubject().subjectName));
+            out.writeLong(lesson.getDate().toEpochDay());
+            out.writeShort(lesson.getTime().toMinuteOfDay());
+        }
+        out.flush();
+    }
+
+    private static void addToTable(Map<String, Integer> stringTable, String string) {
+        if (!stringTable.containsKey(string)) {
+            stringTable.put(string, stringTable.size());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}.
+     *
+     * @throws IllegalValueException if the buffer does not hold a valid address book.
+     */
+    private static AddressBook parseAddressBook(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            StringTable stringTable = new StringTable(buffer);
+            int studentCount = readCount(buffer);
+            List<Student> students = new ArrayList<>(studentCount);
+            for (int i = 0; i < studentCount; i++) {
+                students.add(readStudent(buffer, stringTable));
+            }
+            int lessonCount = readCount(buffer);
+            List<Lesson> lessons = new ArrayList<>(lessonCount);
+            for (int i = 0; i < lessonCount; i++) {
+                lessons.add(readLesson(buffer, stringTable));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return JsonSerializableAddressBook.toAddressBook(students, lessons);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static Student readStudent(ByteBuffer buffer, StringTable stringTable) throws IllegalValueException {
+        Name name = stringTable.getName(buffer.getInt());
+
+        String phone = readString(buffer);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(buffer);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String address = readString(buffer);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Subject> subjects = new HashSet<>();
+        int subjectCount = readCount(buffer);
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(stringTable.getSubject(buffer.getInt()));
+        }
+
+        UniqueAssignmentList assignments = new UniqueAssignmentList();
+        int assignmentCount = readCount(buffer);
+        for (int i = 0; i < assignmentCount; i++) {
+            String assignmentName = stringTable.getAssignmentName(buffer.getInt());
+            Date dueDate = readDate(buffer);
+            Assignment assignment = new Assignment(assignmentName, dueDate, buffer.get() != 0);
+            if (assignments.contains(assignment)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
+            }
+            assignments.add(assignment);
+        }
+
+        return new Student(name, new Phone(phone), new Email(email), new Address(address), subjects, assignments);
+    }
+
+    private static Lesson readLesson(ByteBuffer buffer, StringTable stringTable) throws IllegalValueException {
+        Name name = stringTable.getName(buffer.getInt());
+        Subject subject = stringTable.getSubject(buffer.getInt());
+        Date date = readDate(buffer);
+        int minuteOfDay = buffer.getShort();
+        if (!Time.isValidMinuteOfDay(minuteOfDay)) {
+            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+        }
+        return new Lesson(subject, name, date, Time.ofMinuteOfDay(minuteOfDay));
+    }
+
+    private static Date readDate(ByteBuffer buffer) throws IllegalValueException {
+        long epochDay = buffer.getLong();
+        if (!Date.isValidEpochDay(epochDay)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return Date.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Reads a count of items that each take up at least one byte of {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readCount(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * The distinct names in a binary address book, each converted into the model type it is used as at most once.
+     */
+    private static class StringTable {
+        private final String[] strings;
+        private final Name[] names;
+        private final Subject[] subjects;
+        private final boolean[] isValidAssignmentName;
+
+        StringTable(ByteBuffer buffer) throws IllegalValueException {
+            int size = readCount(buffer);
+            strings = new String[size];
+            for (int i = 0; i < size; i++) {
+                strings[i] = readString(buffer);
+            }
+            names = new Name[size];
+            subjects = new Subject[size];
+            isValidAssignmentName = new boolean[size];
+        }
+
+        Name getName(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (names[index] == null) {
+                if (!Name.isValidName(strings[index])) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                names[index] = new Name(strings[index]);
+            }
+            return names[index];
+        }
+
+        Subject getSubject(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (subjects[index] == null) {
+                if (!Subject.isValidSubjectName(strings[index])) {
+                    throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
+                }
+                subjects[index] = new Subject(strings[index]);
+            }
+            return subjects[index];
+        }
+
+        String getAssignmentName(int index) throws IllegalValueException {
+            checkIndex(index);
+            if (!isValidAssignmentName[index]) {
+                if (!Assignment.isValidAssignmentName(strings[index])) {
+                    throw new IllegalValueException(Assignment.MESSAGE_CONSTRAINTS);
+                }
+                isValidAssignmentName[index] = true;
+            }
+            return strings[index];
+        }
+
+        private void checkIndex(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        }
+    }
+}
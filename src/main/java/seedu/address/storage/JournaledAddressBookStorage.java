@@ -0,0 +1,564 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookChanges.Splice;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of the changes made since.
+ *
+ * The snapshot has the same format as the file written by {@code JsonAddressBookStorage}. Each save of the
+ * changes recorded by the model appends just those changes to the journal, one entry per line, next to the
+ * snapshot. Once the journal grows past a size threshold, it is folded into a new snapshot on a background
+ * thread while saves carry on appending to it. Reading replays the journal on top of the snapshot.
+ *
+ * The journal starts with a header holding the checksum of the snapshot it applies to, so a journal that has
+ * already been folded into the snapshot (e.g. if the application stopped halfway through compaction) is ignored.
+ * A journal that applies to neither the snapshot nor its backup means the snapshot was changed outside the
+ * application, so the journal is moved aside with a warning instead of being replayed onto the wrong data.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String NEXT_JOURNAL_FILE_SUFFIX = ".next";
+    public static final String UNAPPLIED_JOURNAL_FILE_SUFFIX = ".unapplied";
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String LESSONS_FIELD = "lessons";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private Path filePath;
+    private final long compactionThreshold;
+    private final RecordConverter recordConverter;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The snapshot and journal last read from or written to persistedFilePath. persistedFilePath is null when
+    // they are not known, in which case the next save writes a new snapshot. The fields are only changed while
+    // holding the lock, but are volatile so that isAddressBookNeededToSaveChanges can read them without it.
+    private volatile Path persistedFilePath;
+    private long snapshotChecksum;
+    private volatile long journalSize;
+    // The compaction running in the background, if any
+    private volatile Compaction compaction;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes a new snapshot once the journal reaches
+     * {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes a new snapshot once the journal reaches
+     * {@code compactionThreshold} bytes, and converts the records of the snapshot it reads in parallel
+     * if {@code isParallelLoading} is true.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold, boolean isParallelLoading) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.recordConverter = RecordConverter.of(isParallelLoading);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location where a journal that does not apply to the snapshot at {@code filePath} is moved.
+     */
+    public static Path getUnappliedJournalFilePath(Path filePath) {
+        Path journalPath = getJournalFilePath(filePath);
+        return journalPath.resolveSibling(journalPath.getFileName() + UNAPPLIED_JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location of the journal that a compaction writes for the new snapshot before putting it in
+     * place of the journal at {@code journalPath}.
+     */
+    private static Path getNextJournalFilePath(Path journalPath) {
+        return journalPath.resolveSibling(journalPath.getFileName() + NEXT_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        persistedFilePath = null;
+        compaction = null;
+
+        // A journal is only ever written after its snapshot, so there is nothing to read without one
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            CRC32 checksum = new CRC32();
+            AddressBook snapshot;
+            try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+                snapshot = StreamingJsonAddressBookStorage.parseAddressBook(in, recordConverter);
+                in.transferTo(OutputStream.nullOutputStream()); // so that the checksum covers the whole file
+            }
+            snapshotChecksum = checksum.getValue();
+            AddressBook addressBook = replayJournal(snapshot, filePath);
+            persistedFilePath = filePath;
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Always writes a new snapshot, as the changes made since the last save are not known.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // Forget what was persisted until the write succeeds, as a failed write may have been partly done
+        persistedFilePath = null;
+        compaction = null;
+        writeSnapshot(addressBook, filePath);
+        persistedFilePath = filePath;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, and starts folding the journal into a new snapshot in the
+     * background once it grows past the compaction threshold. Writes a new snapshot instead if the snapshot
+     * and journal that {@code changes} apply to are not known, e.g. if the last save failed.
+     * Without {@code addressBook}, a compaction that is due waits for a later save that has it.
+     */
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(changes);
+
+        if (!filePath.equals(persistedFilePath)) {
+            if (addressBook == null) {
+                throw new IOException("The changes to " + filePath + " cannot be saved on their own, as the data"
+                        + " file they apply to is not known");
+            }
+            saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder entries = new StringBuilder();
+        for (Splice<Student> change : changes.getStudentChanges()) {
+            appendEntry(entries, STUDENTS_FIELD, change, JsonAdaptedStudent::new);
+        }
+        for (Splice<Lesson> change : changes.getLessonChanges()) {
+            appendEntry(entries, LESSONS_FIELD, change, JsonAdaptedLesson::new);
+        }
+
+        appendToJournal(filePath, entries);
+
+        if (compaction != null) {
+            compaction.laterEntries.append(entries);
+        } else if (journalSize >= compactionThreshold && addressBook != null) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Returns true if the snapshot and journal are not known, or the journal is due to be compacted.
+     * Does not wait for a save or compaction in progress, so the answer reflects the last one that finished.
+     */
+    @Override
+    public boolean isAddressBookNeededToSaveChanges() {
+        return !filePath.equals(persistedFilePath) || (compaction == null && journalSize >= compactionThreshold);
+    }
+
+    /**
+     * Waits for the compaction running in the background, if any, to finish.
+     */
+    public void awaitCompaction() throws InterruptedException {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Waiting on the compactor cannot fail", e);
+        }
+    }
+
+    private void startCompaction(ReadOnlyAddressBook addressBook) {
+        Compaction newCompaction = new Compaction(filePath, AddressBookSnapshot.of(addressBook));
+        compaction = newCompaction;
+        compactor.execute(() -> compact(newCompaction));
+    }
+
+    /**
+     * Writes the snapshot of {@code compaction} to a temporary file, then puts it in place along with a journal
+     * of the changes saved since the compaction started, unless a snapshot has been written in the meantime.
+     * Runs on the compactor thread, so that saves are not held up by writing the whole address book.
+     */
+    private void compact(Compaction compaction) {
+        Path filePath = compaction.filePath;
+        Path tempFile = null;
+        try {
+            logger.fine("Compacting journal of " + filePath);
+            CRC32 checksum = new CRC32();
+            tempFile = FileUtil.writeTempFile(filePath, out -> StreamingJsonAddressBookStorage
+                    .writeAddressBook(compaction.snapshot, new CheckedOutputStream(out, checksum)));
+            synchronized (this) {
+                if (this.compaction != compaction) {
+                    // A snapshot has been written since, or the last save failed
+                    Files.delete(tempFile);
+                    return;
+                }
+                this.compaction = null;
+                try {
+                    commitCompaction(compaction, tempFile, checksum.getValue());
+                } catch (IOException e) {
+                    // The journal may have been partly replaced, so the next save writes a new snapshot
+                    persistedFilePath = null;
+                    throw e;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal of " + filePath + ": " + e.getMessage());
+            synchronized (this) {
+                if (this.compaction == compaction) {
+                    // The next save past the threshold tries again
+                    this.compaction = null;
+                }
+            }
+            deleteTempFile(tempFile);
+        }
+    }
+
+    /**
+     * Puts {@code tempFile}, the snapshot of {@code compaction} with the given checksum, in place of the current
+     * snapshot. The journal of the new snapshot is written in full before the snapshot is moved in place, and the
+     * current journal is only replaced afterwards, so the data file and a journal that applies to it are complete
+     * at every step.
+     */
+    private void commitCompaction(Compaction compaction, Path tempFile, long checksum) throws IOException {
+        Path filePath = compaction.filePath;
+        Path journalPath = getJournalFilePath(filePath);
+        Path nextJournalPath = getNextJournalFilePath(journalPath);
+        String nextJournal = JsonUtil.toCompactJsonString(new JournalHeader(checksum)) + "\n"
+                + compaction.laterEntries;
+        FileUtil.writeToFile(nextJournalPath, nextJournal);
+
+        FileUtil.copyAtomically(journalPath, getJournalFilePath(FileUtil.getBackupPath(filePath)));
+        FileUtil.replaceKeepingBackup(tempFile, filePath);
+        FileUtil.moveAtomically(nextJournalPath, journalPath);
+        snapshotChecksum = checksum;
+        journalSize = Files.size(journalPath);
+        logger.fine("Compacted journal of " + filePath);
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.warning("Failed to delete " + tempFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns {@code snapshot}, read from {@code filePath}, with the changes in its journal applied.
+     * Also sets {@code journalSize} to the length of the journal that can be appended to.
+     */
+    private AddressBook replayJournal(AddressBook snapshot, Path filePath)
+            throws IOException, IllegalValueException {
+        journalSize = 0;
+        Path journalPath = getJournalFilePath(filePath);
+        Path nextJournalPath = getNextJournalFilePath(journalPath);
+        if (Files.exists(nextJournalPath)) {
+            // The application stopped during a compaction, either before or after the new snapshot was in place
+            if (snapshotChecksum == readHeader(Files.readAllBytes(nextJournalPath), nextJournalPath)) {
+                FileUtil.moveAtomically(nextJournalPath, journalPath);
+            } else {
+                Files.delete(nextJournalPath);
+            }
+        }
+        if (!Files.exists(journalPath)) {
+            return snapshot;
+        }
+
+        // The journal is kept near the compaction threshold, so it is small enough to read at once
+        byte[] journal = Files.readAllBytes(journalPath);
+        int lineEnd = indexOfNewline(journal, 0);
+        if (lineEnd == -1) {
+            logger.warning("Ignoring journal " + journalPath + " as it has no complete header");
+            return snapshot;
+        }
+        long journalChecksum = readHeader(journal, journalPath);
+        if (journalChecksum != snapshotChecksum) {
+            setAsideUnappliedJournal(filePath, journalChecksum);
+            return snapshot;
+        }
+
+        List<Student> students = new ArrayList<>(snapshot.getStudentList());
+        List<Lesson> lessons = new ArrayList<>(snapshot.getLessonList());
+        int entryCount = 0;
+        int lineStart = lineEnd + 1;
+        while ((lineEnd = indexOfNewline(journal, lineStart)) != -1) {
+            String line = new String(journal, lineStart, lineEnd - lineStart, UTF_8);
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(students, lessons);
+            entryCount++;
+            lineStart = lineEnd + 1;
+        }
+        if (lineStart < journal.length) {
+            // The application stopped while the last entry was being written, so it was never saved
+            logger.warning("Discarding incomplete last entry of journal " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+            }
+        }
+        journalSize = lineStart;
+        logger.info("Replayed " + entryCount + " journal entries from " + journalPath);
+
+        return JsonSerializableAddressBook.toAddressBook(students, lessons);
+    }
+
+    /**
+     * Returns the snapshot checksum in the header of {@code journal}, read from {@code journalPath}, or -1 if
+     * it has no complete header.
+     */
+    private static long readHeader(byte[] journal, Path journalPath) throws IOException {
+        int lineEnd = indexOfNewline(journal, 0);
+        if (lineEnd == -1) {
+            return -1;
+        }
+        return JsonUtil.fromJsonString(new String(journal, 0, lineEnd, UTF_8), JournalHeader.class)
+                .snapshotChecksum;
+    }
+
+    /**
+     * Deals with a journal of the snapshot at {@code filePath} whose header holds {@code journalChecksum}
+     * instead of the checksum of the snapshot. If the journal applies to the previous snapshot, its changes
+     * are already in the snapshot and it is left to be replaced. Otherwise the snapshot was changed outside the
+     * application, so the journal is moved aside to keep the changes it holds for the user to look into.
+     */
+    private void setAsideUnappliedJournal(Path filePath, long journalChecksum) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        if (Files.exists(backupPath) && journalChecksum == checksumOf(backupPath)) {
+            logger.info("Ignoring journal " + journalPath + " as its changes are already in the snapshot");
+            return;
+        }
+
+        Path unappliedJournalPath = getUnappliedJournalFilePath(filePath);
+        logger.warning("Data file " + filePath + " was changed outside the application, so the changes in journal "
+                + journalPath + " no longer apply to it and are not loaded. The journal is moved to "
+                + unappliedJournalPath);
+        FileUtil.moveAtomically(journalPath, unappliedJournalPath);
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Appends {@code entries} to the journal of the snapshot at {@code filePath}, starting a new journal if
+     * there is none. If the append fails, the journal is cut back to what it held before, so that the entries can
+     * be appended again. If that fails too, the snapshot and journal are forgotten, so the next save writes a new
+     * snapshot.
+     */
+    private void appendToJournal(Path filePath, StringBuilder entries) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        String toAppend = entries.toString();
+        if (journalSize == 0) {
+            toAppend = JsonUtil.toCompactJsonString(new JournalHeader(snapshotChecksum)) + "\n" + toAppend;
+            // A journal left over from before the last snapshot may share its contents with the backup journal,
+            // so it is replaced rather than truncated
+            Files.deleteIfExists(journalPath);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(toAppend.getBytes(UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            long sizeBefore = channel.size();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // The change only counts as saved once it is on the disk
+                channel.force(false);
+            } catch (IOException e) {
+                cutBackJournal(channel, sizeBefore, e);
+                throw e;
+            }
+            journalSize = channel.size();
+        }
+    }
+
+    /**
+     * Truncates the journal open on {@code channel} to {@code size} after an append failed with
+     * {@code appendFailure}, or forgets the snapshot and journal if the journal cannot be truncated.
+     */
+    private void cutBackJournal(FileChannel channel, long size, IOException appendFailure) {
+        try {
+            channel.truncate(size);
+            channel.force(false);
+        } catch (IOException e) {
+            appendFailure.addSuppressed(e);
+            // The journal may end partway through an entry
+            persistedFilePath = null;
+            compaction = null;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath}.
+     * The previous snapshot is kept at {@link FileUtil#getBackupPath} along with its journal, so that it can
+     * still be read back in full if the new snapshot is ever lost.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Writing address book snapshot to " + filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        Path backupJournalPath = getJournalFilePath(FileUtil.getBackupPath(filePath));
+        Files.deleteIfExists(getNextJournalFilePath(journalPath));
+        // The journal is backed up before the snapshot it applies to, and only removed once the new snapshot is
+        // in place, so that the data file and its journal are complete at every step
+        boolean hasJournal = Files.exists(journalPath);
+        if (hasJournal) {
+            FileUtil.copyAtomically(journalPath, backupJournalPath);
+        }
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomicallyKeepingBackup(filePath, out ->
+                StreamingJsonAddressBookStorage.writeAddressBook(addressBook, new CheckedOutputStream(out, checksum)));
+        if (hasJournal) {
+            Files.delete(journalPath);
+        } else {
+            Files.deleteIfExists(backupJournalPath);
+        }
+        snapshotChecksum = checksum.getValue();
+        journalSize = 0;
+    }
+
+    /**
+     * Appends a journal entry for {@code change} to the list named {@code field} to {@code entries}.
+     */
+    private static <T> void appendEntry(StringBuilder entries, String field, Splice<T> change,
+            Function<T, ?> toJsonAdapted) throws IOException {
+        entries.append("{\"from\":").append(change.getFrom())
+                .append(",\"removed\":").append(change.getRemovedCount())
+                .append(",\"").append(field).append("\":[");
+        String separator = "";
+        for (T record : change.getAdded()) {
+            entries.append(separator).append(JsonUtil.toCompactJsonString(toJsonAdapted.apply(record)));
+            separator = ",";
+        }
+        entries.append("]}\n");
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A snapshot being written in place of the snapshot at {@code filePath} and its journal.
+     */
+    private static class Compaction {
+        private final Path filePath;
+        private final ReadOnlyAddressBook snapshot;
+        // The journal entries saved since the snapshot was taken, which go into the journal of the new snapshot
+        private final StringBuilder laterEntries = new StringBuilder();
+
+        Compaction(Path filePath, ReadOnlyAddressBook snapshot) {
+            this.filePath = filePath;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * The first line of a journal, identifying the snapshot that the journal applies to.
+     */
+    private static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * Jackson-friendly version of a single change to the student list or the lesson list of an address book.
+ * The change removes {@code removed} records starting at position {@code from}, and puts the given students
+ * (or lessons) in their place.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_NOT_ONE_LIST = "Journal entry must change exactly one of students or lessons.";
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry changes records that do not exist.";
+
+    private final Integer from;
+    private final Integer removed;
+    private final List<JsonAdaptedStudent> students;
+    private final List<JsonAdaptedLesson> lessons;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("from") Integer from, @JsonProperty("removed") Integer removed,
+                                   @JsonProperty("students") List<JsonAdaptedStudent> students,
+                                   @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.from = from;
+        this.removed = removed;
+        this.students = students;
+        this.lessons = lessons;
+    }
+
+    /**
+     * Applies this change to {@code students} or {@code lessons}, whichever it is for.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry,
+     *     or if the change does not fit the list it is for.
+     */
+    public void applyTo(List<Student> students, List<Lesson> lessons) throws IllegalValueException {
+        if (from == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "from"));
+        }
+        if (removed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "removed"));
+        }
+        if ((this.students == null) == (this.lessons == null)) {
+            throw new IllegalValueException(MESSAGE_NOT_ONE_LIST);
+        }
+
+        if (this.students != null) {
+            List<Student> added = new ArrayList<>();
+            for (JsonAdaptedStudent student : this.students) {
+                added.add(student.toModelType());
+            }
+            splice(students, added);
+        } else {
+            List<Lesson> added = new ArrayList<>();
+            for (JsonAdaptedLesson lesson : this.lessons) {
+                added.add(lesson.toModelType());
+            }
+            splice(lessons, added);
+        }
+    }
+
+    private <T> void splice(List<T> records, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > records.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+        List<T> removedRecords = records.subList(from, from + removed);
+        removedRecords.clear();
+        removedRecords.addAll(added);
+    }
+}
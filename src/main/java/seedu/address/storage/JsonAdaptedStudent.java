@@ -90,7 +90,7 @@ class JsonAdaptedStudent {
                 if (studentAssignments.contains(assignmentToAdd)) {
                     throw new IllegalValueException(MESSAGE_DUPLICATE_ASSIGNMENT);
                 }
-                studentAssignments.add(assignment.toModelType());
+                studentAssignments.add(assignmentToAdd);
             }
         }
 
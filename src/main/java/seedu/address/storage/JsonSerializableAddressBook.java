@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +14,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
 import seedu.address.model.student.Student;
 
 /**
@@ -22,6 +27,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
+    public static final String MESSAGE_DUPLICATE_STUDENT_RECORD =
+            "Student %1$d (%2$s) has the same name, phone or email as student %3$d.";
+    public static final String MESSAGE_DUPLICATE_LESSON_RECORD = "Lesson %1$d (with %2$s) is the same as lesson %3$d.";
 
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
@@ -52,22 +60,97 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(RecordConverter.SEQUENTIAL);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, converting the records with
+     * {@code recordConverter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType(RecordConverter recordConverter) throws IllegalValueException {
+        List<Student> modelStudents = recordConverter.convertAll(students, JsonAdaptedStudent::toModelType);
+        List<Lesson> modelLessons = recordConverter.convertAll(lessons, JsonAdaptedLesson::toModelType);
+        return toAddressBook(modelStudents, modelLessons);
+    }
+
+    /**
+     * Returns an address book holding {@code students} and {@code lessons}, in order.
+     * Every record is checked against the ones before it in a single pass, and the lists are then put into the
+     * address book in bulk, so that each list changes only once.
+     *
+     * @throws IllegalValueException if there are duplicate students or lessons. The message lists every
+     *     duplicate found, not just the first.
+     */
+    static AddressBook toAddressBook(List<Student> students, List<Lesson> lessons) throws IllegalValueException {
+        List<String> problems = new ArrayList<>();
+        List<String> duplicateStudents = findDuplicateStudents(students);
+        if (!duplicateStudents.isEmpty()) {
+            problems.add(MESSAGE_DUPLICATE_STUDENT);
+            problems.addAll(duplicateStudents);
+        }
+        List<String> duplicateLessons = findDuplicateLessons(lessons);
+        if (!duplicateLessons.isEmpty()) {
+            problems.add(MESSAGE_DUPLICATE_LESSON);
+            problems.addAll(duplicateLessons);
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", problems));
+        }
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        addressBook.setStudents(students);
+        addressBook.setLessons(lessons);
+        return addressBook;
+    }
+
+    /**
+     * Returns a description of every student in {@code students} that has the same identity as an earlier one.
+     * Records are numbered from 1, as they appear in the file.
+     */
+    private static List<String> findDuplicateStudents(List<Student> students) {
+        int expectedSize = students.size() * 2;
+        Map<Name, Integer> names = new HashMap<>(expectedSize);
+        Map<Phone, Integer> phones = new HashMap<>(expectedSize);
+        Map<Email, Integer> emails = new HashMap<>(expectedSize);
+        List<String> duplicates = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            Integer earlier = names.get(student.getName());
+            if (earlier == null) {
+                earlier = phones.get(student.getPhone());
+            }
+            if (earlier == null) {
+                earlier = emails.get(student.getEmail());
             }
-            addressBook.addStudent(student);
+            if (earlier != null) {
+                duplicates.add(String.format(MESSAGE_DUPLICATE_STUDENT_RECORD, i + 1, student.getName(), earlier));
+                continue;
+            }
+            names.put(student.getName(), i + 1);
+            phones.put(student.getPhone(), i + 1);
+            emails.put(student.getEmail(), i + 1);
         }
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            if (addressBook.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+        return duplicates;
+    }
+
+    /**
+     * Returns a description of every lesson in {@code lessons} that is the same as an earlier one.
+     * Records are numbered from 1, as they appear in the file.
+     */
+    private static List<String> findDuplicateLessons(List<Lesson> lessons) {
+        Map<Lesson, Integer> seen = new HashMap<>(lessons.size() * 2);
+        List<String> duplicates = new ArrayList<>();
+        for (int i = 0; i < lessons.size(); i++) {
+            Lesson lesson = lessons.get(i);
+            Integer earlier = seen.putIfAbsent(lesson, i + 1);
+            if (earlier != null) {
+                duplicates.add(String.format(MESSAGE_DUPLICATE_LESSON_RECORD, i + 1, lesson.getStudentName(),
+                        earlier));
             }
-            addressBook.addLesson(lesson);
         }
-        return addressBook;
+        return duplicates;
     }
 
 }
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into model objects, in the order they were given.
+ * A parallel converter splits large batches into chunks that are converted on the common fork-join pool.
+ * Either way, a batch with invalid records fails with the error of the first invalid record, just as if the
+ * records had been converted one after another.
+ */
+class RecordConverter {
+
+    /** Batches no larger than this are converted on the calling thread. */
+    static final int CHUNK_SIZE = 256;
+
+    static final RecordConverter SEQUENTIAL = new RecordConverter(false);
+    static final RecordConverter PARALLEL = new RecordConverter(true);
+
+    private final boolean isParallel;
+
+    private RecordConverter(boolean isParallel) {
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Returns the parallel converter if {@code isParallel} is true, and the sequential one otherwise.
+     */
+    static RecordConverter of(boolean isParallel) {
+        return isParallel ? PARALLEL : SEQUENTIAL;
+    }
+
+    boolean isParallel() {
+        return isParallel;
+    }
+
+    /**
+     * Returns the model objects converted from {@code records}, in the same order.
+     *
+     * @throws IllegalValueException with the error of the first record that could not be converted.
+     */
+    <A, M> List<M> convertAll(List<A> records, Conversion<A, M> conversion) throws IllegalValueException {
+        requireNonNull(records);
+        requireNonNull(conversion);
+
+        if (!isParallel || records.size() <= CHUNK_SIZE) {
+            List<M> converted = new ArrayList<>(records.size());
+            for (A record : records) {
+                converted.add(conversion.convert(record));
+            }
+            return converted;
+        }
+
+        Batch<A, M> batch = new Batch<>(records, conversion);
+        ForkJoinPool.commonPool().invoke(new ChunkTask<>(batch, 0, records.size()));
+        if (batch.firstFailure != null) {
+            throw batch.firstFailure;
+        }
+        @SuppressWarnings("unchecked")
+        List<M> converted = (List<M>) Arrays.asList(batch.results);
+        return converted;
+    }
+
+    /**
+     * Converts a single record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * The records being converted, along with what has come of them so far.
+     */
+    private static class Batch<A, M> {
+        private final List<A> records;
+        private final Conversion<A, M> conversion;
+        private final Object[] results;
+        private int firstFailedIndex = Integer.MAX_VALUE;
+        private IllegalValueException firstFailure;
+
+        Batch(List<A> records, Conversion<A, M> conversion) {
+            this.records = records;
+            this.conversion = conversion;
+            this.results = new Object[records.size()];
+        }
+
+        synchronized boolean hasFailedBefore(int index) {
+            return firstFailedIndex < index;
+        }
+
+        /**
+         * Keeps {@code failure} if the record at {@code index} comes before every other record that failed,
+         * so that the reported error does not depend on which chunk happened to finish first.
+         */
+        synchronized void fail(int index, IllegalValueException failure) {
+            if (index < firstFailedIndex) {
+                firstFailedIndex = index;
+                firstFailure = failure;
+            }
+        }
+    }
+
+    /**
+     * Converts the records from {@code from} (inclusive) to {@code to} (exclusive), splitting the range in half
+     * until it is no larger than a chunk.
+     */
+    private static class ChunkTask<A, M> extends RecursiveAction {
+        private final Batch<A, M> batch;
+        private final int from;
+        private final int to;
+
+        ChunkTask(Batch<A, M> batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask<>(batch, from, middle), new ChunkTask<>(batch, middle, to));
+                return;
+            }
+
+            // A failure earlier in the batch is what gets reported, so the rest of this chunk is not needed
+            if (batch.hasFailedBefore(from)) {
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    batch.results[i] = batch.conversion.convert(batch.records.get(i));
+                } catch (IllegalValueException e) {
+                    batch.fail(i, e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.LoadAddressBookEvent;
+import seedu.address.commons.events.SaveAddressBookEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Address book loads and saves are recorded as {@link LoadAddressBookEvent} and {@link SaveAddressBookEvent}
+ * when Java Flight Recorder is recording.
  */
 public class StorageManager implements Storage {
 
@@ -61,7 +67,24 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        LoadAddressBookEvent event = new LoadAddressBookEvent();
+        event.begin();
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+            event.setSuccessful(true);
+            addressBook.ifPresent(loaded -> {
+                event.setStudentCount(loaded.getStudentList().size());
+                event.setLessonCount(loaded.getLessonList().size());
+            });
+            return addressBook;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setFilePath(filePath.toString());
+                event.setFileSize(getFileSize(filePath));
+                event.commit();
+            }
+        }
     }
 
     @Override
@@ -72,7 +95,59 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        SaveAddressBookEvent event = new SaveAddressBookEvent();
+        event.begin();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            event.setSuccessful(true);
+        } finally {
+            commitSaveEvent(event, filePath, addressBook);
+        }
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to write changes to data file: " + filePath);
+        SaveAddressBookEvent event = new SaveAddressBookEvent();
+        event.begin();
+        try {
+            addressBookStorage.saveAddressBookChanges(addressBook, changes);
+            event.setSuccessful(true);
+        } finally {
+            commitSaveEvent(event, filePath, addressBook);
+        }
+    }
+
+    @Override
+    public boolean isAddressBookNeededToSaveChanges() {
+        return addressBookStorage.isAddressBookNeededToSaveChanges();
+    }
+
+    private static void commitSaveEvent(SaveAddressBookEvent event, Path filePath, ReadOnlyAddressBook addressBook) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFilePath(filePath.toString());
+            event.setFileSize(getFileSize(filePath));
+            // Changes can be saved without the address book, in which case its size is not known
+            if (addressBook != null) {
+                event.setStudentCount(addressBook.getStudentList().size());
+                event.setLessonCount(addressBook.getLessonList().size());
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath}, or 0 if it cannot be found.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,223 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, one record at a time.
+ * The file has the same format as the one written by {@code JsonAddressBookStorage}, but the file is never
+ * held in memory as a whole: students and lessons are converted in batches as they are read from the file, and
+ * one at a time as they are written to it.
+ */
+public class StreamingJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book file does not contain a JSON object.";
+    public static final String MESSAGE_NOT_AN_ARRAY = "The %s field of the address book file is not a list.";
+    public static final String MESSAGE_NULL_RECORD = "The %s list of the address book file contains an empty entry.";
+
+    /** Number of records read from the file before they are converted, as a multiple of the converter's chunks. */
+    static final int BATCH_SIZE = 16 * RecordConverter.CHUNK_SIZE;
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String LESSONS_FIELD = "lessons";
+
+    private static final Logger logger = LogsCenter.getLogger(StreamingJsonAddressBookStorage.class);
+
+    private Path filePath;
+    private final RecordConverter recordConverter;
+
+    public StreamingJsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code StreamingJsonAddressBookStorage} that converts the records it reads in parallel
+     * if {@code isParallelLoading} is true.
+     */
+    public StreamingJsonAddressBookStorage(Path filePath, boolean isParallelLoading) {
+        this.filePath = filePath;
+        this.recordConverter = RecordConverter.of(isParallelLoading);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(parseAddressBook(in, recordConverter));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and its previous contents are kept at {@link FileUtil#getBackupPath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomicallyKeepingBackup(filePath, out -> writeAddressBook(addressBook, out));
+    }
+
+    /**
+     * Saves the whole of {@code addressBook}, as this format cannot save just the changes.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the address book file format.
+     * {@code out} is left open.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : addressBook.getStudentList()) {
+                generator.writeObject(new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(LESSONS_FIELD);
+            for (Lesson lesson : addressBook.getLessonList()) {
+                generator.writeObject(new JsonAdaptedLesson(lesson));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads an address book in the address book file format from {@code in}.
+     * Unknown fields are skipped, and a missing list is treated as an empty one. {@code in} is left open.
+     * Records are read in batches of {@link #BATCH_SIZE}, and each batch is converted with {@code recordConverter}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook parseAddressBook(InputStream in, RecordConverter recordConverter)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return parseAddressBook(parser, recordConverter);
+        }
+    }
+
+    private static AddressBook parseAddressBook(JsonParser parser, RecordConverter recordConverter)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_OBJECT);
+        }
+
+        List<Student> students = new ArrayList<>();
+        List<Lesson> lessons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (STUDENTS_FIELD.equals(fieldName)) {
+                readRecords(parser, STUDENTS_FIELD, JsonAdaptedStudent.class, batch ->
+                        students.addAll(recordConverter.convertAll(batch, JsonAdaptedStudent::toModelType)));
+            } else if (LESSONS_FIELD.equals(fieldName)) {
+                readRecords(parser, LESSONS_FIELD, JsonAdaptedLesson.class, batch ->
+                        lessons.addAll(recordConverter.convertAll(batch, JsonAdaptedLesson::toModelType)));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return JsonSerializableAddressBook.toAddressBook(students, lessons);
+    }
+
+    /**
+     * Reads the list that {@code parser} is positioned at the start of, handing the records to
+     * {@code batchHandler} in batches of {@link #BATCH_SIZE}, so that only one batch is held in memory at a time.
+     */
+    private static <T> void readRecords(JsonParser parser, String fieldName, Class<T> recordType,
+            BatchHandler<T> batchHandler) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(MESSAGE_NOT_AN_ARRAY, fieldName));
+        }
+
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T record = parser.readValueAs(recordType);
+            if (record == null) {
+                // Records before the empty entry are checked first, as they come first in the file
+                batchHandler.handle(batch);
+                throw new IllegalValueException(String.format(MESSAGE_NULL_RECORD, fieldName));
+            }
+            batch.add(record);
+            if (batch.size() == BATCH_SIZE) {
+                batchHandler.handle(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        batchHandler.handle(batch);
+    }
+
+    /**
+     * Handles a batch of records read from the file, in the order they appear in the file.
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        void handle(List<T> batch) throws IllegalValueException;
+    }
+}
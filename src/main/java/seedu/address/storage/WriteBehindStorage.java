@@ -0,0 +1,241 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that the address book is saved on a background thread instead of the caller's.
+ * Each save takes a copy of what is to be written, so the caller is free to keep changing the address book
+ * afterwards. Where only the changes are saved, only they are copied, unless the wrapped storage needs the whole
+ * address book for its next save. Saves that arrive while an earlier one is still waiting to be written are
+ * coalesced into a single write. Everything other than saving the address book goes straight to the wrapped
+ * storage.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The latest save that has not been written yet, or null if there is none. A save that failed to be written
+    // is put back here with no write scheduled for it, so the next save schedules one.
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private volatile Consumer<IOException> saveFailureHandler = unused -> {};
+    private volatile LongConsumer writeTimeHandler = unused -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler to be told about saves that failed on the background thread.
+     * The handler is called on the background thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Sets the handler to be told how many nanoseconds each successful write of the address book took.
+     * The handler is called on the thread that did the write, usually the background thread.
+     */
+    public void setWriteTimeHandler(LongConsumer writeTimeHandler) {
+        requireNonNull(writeTimeHandler);
+        this.writeTimeHandler = writeTimeHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush(); // so that the file reflects every save made so far
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved to {@code filePath} and returns without waiting.
+     * Failures are reported to the save failure handler instead of being thrown.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireAllNonNull(addressBook, filePath);
+        scheduleSave(addressBook, filePath, null);
+    }
+
+    /**
+     * Schedules a copy of {@code changes} to be saved, and returns without waiting. A snapshot of
+     * {@code addressBook} is only taken if the wrapped storage needs it to save the changes.
+     * Failures are reported to the save failure handler instead of being thrown.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireAllNonNull(addressBook, changes);
+        scheduleSave(addressBook, storage.getAddressBookFilePath(), changes.copy());
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved to {@code filePath}, given the {@code changes} made since the
+     * previous save, or null if they are not known. A snapshot of {@code addressBook} is taken unless the changes
+     * are known and the wrapped storage can save them on their own.
+     */
+    private void scheduleSave(ReadOnlyAddressBook addressBook, Path filePath, AddressBookChanges changes) {
+        ReadOnlyAddressBook snapshot = null;
+        PendingSave replaced;
+        PendingSave save;
+        do {
+            replaced = pendingSave.get();
+            AddressBookChanges changesToSave = carryOverChanges(replaced, filePath, changes);
+            if (snapshot == null && (changesToSave == null || storage.isAddressBookNeededToSaveChanges())) {
+                snapshot = AddressBookSnapshot.of(addressBook);
+            }
+            save = new PendingSave(snapshot, filePath, changesToSave, false);
+        } while (!pendingSave.compareAndSet(replaced, save));
+
+        if (replaced == null || replaced.hasFailed) {
+            // No write is waiting yet, otherwise that write picks up this save instead
+            writer.execute(this::writePendingSave);
+        }
+    }
+
+    /**
+     * Returns the changes to save in place of {@code replaced}, which is never written, followed by
+     * {@code changes}, or null if they are not all known.
+     */
+    private static AddressBookChanges carryOverChanges(PendingSave replaced, Path filePath,
+            AddressBookChanges changes) {
+        if (replaced == null) {
+            return changes;
+        }
+        if (changes == null || replaced.changes == null || !replaced.filePath.equals(filePath)) {
+            return null;
+        }
+        return replaced.changes.then(changes);
+    }
+
+    /**
+     * Waits until every save scheduled so far has been written.
+     * A save that failed earlier is tried once more, unless a newer save has replaced it.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePendingSave).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the address book to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while saving the address book " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes any pending save and stops the background thread.
+     * The address book must not be saved through this storage afterwards.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdown();
+    }
+
+    private void writePendingSave() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        logger.fine("Writing address book to " + save.filePath);
+        long writeStart = System.nanoTime();
+        try {
+            if (save.changes == null) {
+                storage.saveAddressBook(save.addressBook, save.filePath);
+            } else {
+                storage.saveAddressBookChanges(save.addressBook, save.changes);
+            }
+            writeTimeHandler.accept(System.nanoTime() - writeStart);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book to " + save.filePath + ": " + e.getMessage());
+            // Keep the save for the next save or flush, unless a newer save has already taken its place
+            pendingSave.compareAndSet(null, new PendingSave(save.addressBook, save.filePath, save.changes, true));
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * A save waiting to be written to {@code filePath}: the changes made since the previous save, or null if they
+     * are not known, and a snapshot of the address book, or null if the changes can be saved without it.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+        private final AddressBookChanges changes;
+        /** Whether writing this save failed, in which case no write is scheduled for it. */
+        private final boolean hasFailed;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath, AddressBookChanges changes, boolean hasFailed) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+            this.changes = changes;
+            this.hasFailed = hasFailed;
+        }
+    }
+}
@@ -21,11 +21,25 @@ public class AssignmentCard extends UiPart<HBox> {
     @FXML
     private HBox cardPane;
 
+    /**
+     * Creates an empty {@code AssignmentCard}, to be filled in with {@link #setAssignment}.
+     */
+    public AssignmentCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code AssignmentCard} with the given {@code Assignment}.
      */
     public AssignmentCard(Assignment assignment) {
-        super(FXML);
+        this();
+        setAssignment(assignment);
+    }
+
+    /**
+     * Shows {@code assignment} on this card in place of the assignment it showed before.
+     */
+    public void setAssignment(Assignment assignment) {
         assignmentName.setText(assignment.getAssignmentName());
         dueDate.setText("Due: " + assignment.getDueDate().toString());
 
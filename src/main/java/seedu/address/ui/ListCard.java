@@ -1,14 +1,21 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
+import seedu.address.model.subject.Subject;
 
 /**
  * A UI component that displays information of a {@code Lesson} or {@code Student}.
@@ -23,8 +30,15 @@ public class ListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Lesson lesson;
-    public final Student student;
+    private static final String LESSON_FXML = "LessonListCard.fxml";
+    private static final String STUDENT_FXML = "StudentListCard.fxml";
+
+    // Chips shown for the current student, kept so that they can be reused for the next student shown on this card
+    private final List<Label> subjectChips = new ArrayList<>();
+    private final List<AssignmentCard> assignmentChips = new ArrayList<>();
+
+    private Lesson lesson;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -53,9 +67,32 @@ public class ListCard extends UiPart<Region> {
      * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
      */
     public ListCard(Lesson lesson, int displayedIndex) {
-        super("LessonListCard.fxml");
+        super(LESSON_FXML);
+        setLesson(lesson, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     */
+    public ListCard(Student student, int displayedIndex) {
+        super(STUDENT_FXML);
+        setStudent(student, displayedIndex);
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Shows {@code lesson} at {@code displayedIndex} on this card in place of the lesson it showed before.
+     * The card must have been created for a lesson.
+     */
+    public void setLesson(Lesson lesson, int displayedIndex) {
         this.lesson = lesson;
-        this.student = null;
         id.setText(displayedIndex + ". ");
         name.setText(lesson.getStudentName().fullName);
         date.setText(lesson.getDate().toString());
@@ -64,23 +101,53 @@ public class ListCard extends UiPart<Region> {
     }
 
     /**
-     * Creates a {@code StudentCard} with the given {@code Student} and index to display.
+     * Shows {@code student} at {@code displayedIndex} on this card in place of the student it showed before.
+     * The card must have been created for a student. The subject and assignment chips already on the card are
+     * reused, and new ones are only created if the student has more of them than any student shown before.
      */
-    public ListCard(Student student, int displayedIndex) {
-        super("StudentListCard.fxml");
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
-        this.lesson = null;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
         phone.setText(student.getPhone().value);
         address.setText(student.getAddress().value);
         email.setText(student.getEmail().value);
-        student.getSubjects().stream()
+
+        List<Subject> sortedSubjects = student.getSubjects().stream()
                 .sorted(Comparator.comparing(subject -> subject.subjectName))
-                .forEach(subject -> subjects.getChildren().add(new Label(subject.subjectName)));
-        student.getAssignments().asUnmodifiableObservableList().stream()
+                .toList();
+        showChips(subjects, subjectChips, sortedSubjects.size(), Label::new, label -> label);
+        for (int i = 0; i < sortedSubjects.size(); i++) {
+            subjectChips.get(i).setText(sortedSubjects.get(i).subjectName);
+        }
+
+        List<Assignment> sortedAssignments = student.getAssignments().asUnmodifiableObservableList().stream()
                 .sorted(Comparator.comparing(assignment -> assignment.dueDate))
-                .forEach(assignment -> assignments.getChildren()
-                        .add(new AssignmentCard(assignment).getRoot()));
+                .toList();
+        showChips(assignments, assignmentChips, sortedAssignments.size(), AssignmentCard::new,
+                AssignmentCard::getRoot);
+        for (int i = 0; i < sortedAssignments.size(); i++) {
+            assignmentChips.get(i).setAssignment(sortedAssignments.get(i));
+        }
+    }
+
+    /**
+     * Makes the first {@code count} chips in {@code pool} the only ones shown in {@code pane}, creating chips
+     * with {@code chipFactory} if the pool has fewer than that. The other chips stay in {@code pane}, hidden, so
+     * that they do not have to be added again when a later item needs them.
+     */
+    private static <T> void showChips(FlowPane pane, List<T> pool, int count, Supplier<T> chipFactory,
+            Function<T, Node> toNode) {
+        while (pool.size() < count) {
+            T chip = chipFactory.get();
+            pool.add(chip);
+            pane.getChildren().add(toNode.apply(chip));
+        }
+        for (int i = 0; i < pool.size(); i++) {
+            Node node = toNode.apply(pool.get(i));
+            boolean isShown = i < count;
+            node.setVisible(isShown);
+            node.setManaged(isShown);
+        }
     }
 }
@@ -37,29 +37,35 @@ public class ListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} or
      * {@code Student} using a {@code ListCard}.
+     * Each cell keeps the cards it has created and shows every later item on them, as building a card from its
+     * FXML on every scroll is too slow for long lists.
      */
     class ListViewCell extends ListCell<Object> {
+        private ListCard lessonCard;
+        private ListCard studentCard;
+
         @Override
         protected void updateItem(Object obj, boolean empty) {
-            if (obj instanceof Lesson curr) {
-                super.updateItem(curr, empty);
-                if (empty || curr == null) {
-                    setGraphic(null);
-                    setText(null);
+            super.updateItem(obj, empty);
+
+            if (empty || obj == null) {
+                setGraphic(null);
+                setText(null);
+            } else if (obj instanceof Lesson curr) {
+                if (lessonCard == null) {
+                    lessonCard = new ListCard(curr, getIndex() + 1);
                 } else {
-                    setGraphic(new ListCard(curr, getIndex() + 1).getRoot());
+                    lessonCard.setLesson(curr, getIndex() + 1);
                 }
+                setGraphic(lessonCard.getRoot());
             } else if (obj instanceof Student curr) {
-                super.updateItem(curr, empty);
-                if (empty || curr == null) {
-                    setGraphic(null);
-                    setText(null);
+                if (studentCard == null) {
+                    studentCard = new ListCard(curr, getIndex() + 1);
                 } else {
-                    setGraphic(new ListCard(curr, getIndex() + 1).getRoot());
+                    studentCard.setStudent(curr, getIndex() + 1);
                 }
+                setGraphic(studentCard.getRoot());
             }
-
-
         }
     }
 
@@ -12,6 +12,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.RefreshListEvent;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -33,7 +34,8 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
-    private ListPanel listPanel;
+    private ListPanel studentListPanel;
+    private ListPanel lessonListPanel;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -111,13 +113,17 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
 
-        listPanel = new ListPanel(logic.getFilteredCurrList());
-        listPanelPlaceholder.getChildren().add(listPanel.getRoot());
+        // Both lists stay in the window, so that switching between them keeps their cells and scroll positions
+        studentListPanel = new ListPanel(logic.getFilteredStudentList());
+        lessonListPanel = new ListPanel(logic.getFilteredLessonList());
+        listPanelPlaceholder.getChildren().addAll(studentListPanel.getRoot(), lessonListPanel.getRoot());
+        handleUpdateList();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.loadingProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -164,10 +170,29 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows the list panel of the list on display, and hides the other one.
+     * This is recorded as a {@link RefreshListEvent} when Java Flight Recorder is recording.
+     */
     private void handleUpdateList() {
-        listPanelPlaceholder.getChildren().clear();
-        listPanel = new ListPanel(logic.getFilteredCurrList());
-        listPanelPlaceholder.getChildren().add(listPanel.getRoot());
+        RefreshListEvent event = new RefreshListEvent();
+        event.begin();
+        boolean isStudentView = logic.isStudentView();
+        setShown(studentListPanel, isStudentView);
+        setShown(lessonListPanel, !isStudentView);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setListName(isStudentView ? "students" : "lessons");
+            event.setItemCount(logic.getFilteredCurrList().size());
+            event.commit();
+        }
+    }
+
+    private static void setShown(ListPanel listPanel, boolean isShown) {
+        // A hidden panel is also left out of layout, so that it is not laid out while it cannot be seen
+        listPanel.getRoot().setVisible(isShown);
+        listPanel.getRoot().setManaged(isShown);
     }
 
     /**
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Tells the user that saving their data failed, with {@code message} as the reason. */
+    void showSaveFailure(String message);
+
 }
@@ -50,6 +50,19 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        // Saves can fail on a background thread, so the dialog is shown on the JavaFX thread
+        Platform.runLater(() -> {
+            if (mainWindow == null) {
+                logger.warning("Save failed before the main window was shown: " + message);
+                return;
+            }
+            showAlertDialogAndWait(AlertType.ERROR, "Save failed", "Your latest changes could not be saved",
+                    message);
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
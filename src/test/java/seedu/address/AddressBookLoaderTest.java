@@ -0,0 +1,106 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+
+public class AddressBookLoaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonPath;
+    private Path binaryPath;
+
+    @BeforeEach
+    public void setUp() {
+        jsonPath = testFolder.resolve("data.json");
+        binaryPath = BinaryAddressBookStorage.getBinaryFilePath(jsonPath);
+    }
+
+    @Test
+    public void convertFromOtherFormat_switchedToBinaryAndBack_latestDataConverted() throws Exception {
+        new JournaledAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookLoader binaryLoader = AddressBookLoader.of(new Config(), prefsFor(AddressBookFormat.BINARY));
+        binaryLoader.convertFromOtherFormat();
+        assertFalse(Files.exists(jsonPath));
+        assertTrue(Files.exists(jsonPath.resolveSibling("data.json" + AddressBookLoader.CONVERTED_FILE_SUFFIX)));
+
+        // edits made while the binary format is chosen
+        AddressBook edited = new AddressBook(binaryLoader.getAddressBookStorage().readAddressBook().get());
+        edited.addStudent(HOON);
+        binaryLoader.getAddressBookStorage().saveAddressBook(edited);
+
+        AddressBookLoader jsonLoader = AddressBookLoader.of(new Config(), prefsFor(AddressBookFormat.JSON));
+        jsonLoader.convertFromOtherFormat();
+
+        assertFalse(Files.exists(binaryPath));
+        assertEquals(edited, new AddressBook(AddressBookLoader.loadAddressBook(
+                jsonLoader.getAddressBookStorage()).get()));
+    }
+
+    @Test
+    public void convertFromOtherFormat_chosenFormatExists_notConverted() throws Exception {
+        new JournaledAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(new AddressBook());
+
+        AddressBookLoader.of(new Config(), prefsFor(AddressBookFormat.BINARY)).convertFromOtherFormat();
+
+        assertTrue(Files.exists(jsonPath));
+        assertEquals(new AddressBook(), new AddressBook(new BinaryAddressBookStorage(binaryPath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void loadAddressBook_dataFileMissing_previousCopyRecovered() throws Exception {
+        AddressBookStorage storage = AddressBookLoader.ofDataFile(new Config(), jsonPath).getAddressBookStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        Files.delete(jsonPath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(AddressBookLoader.loadAddressBook(storage).get()));
+    }
+
+    @Test
+    public void loadAddressBook_noDataFile_emptyResult() throws Exception {
+        AddressBookStorage storage = AddressBookLoader.ofDataFile(new Config(), binaryPath).getAddressBookStorage();
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertFalse(AddressBookLoader.loadAddressBook(storage).isPresent());
+    }
+
+    @Test
+    public void loadAddressBook_unreadableWithoutPreviousCopy_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(jsonPath, "not json");
+        AddressBookStorage storage = AddressBookLoader.ofDataFile(new Config(), jsonPath).getAddressBookStorage();
+
+        assertThrows(DataLoadingException.class, () -> AddressBookLoader.loadAddressBook(storage));
+    }
+
+    private UserPrefs prefsFor(AddressBookFormat format) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonPath);
+        userPrefs.setAddressBookFormat(format);
+        return userPrefs;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class GenerateDataTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, GenerateData.MESSAGE_MISSING_OUTPUT, () ->
+                GenerateData.parse("--students", "10"));
+        assertThrows(IllegalArgumentException.class,
+                String.format(GenerateData.MESSAGE_MISSING_VALUE, "--seed"), () ->
+                GenerateData.parse("--output", "data.json", "--seed"));
+        assertThrows(IllegalArgumentException.class,
+                String.format(GenerateData.MESSAGE_UNKNOWN_OPTION, "--size"), () ->
+                GenerateData.parse("--output", "data.json", "--size", "10"));
+        assertThrows(IllegalArgumentException.class,
+                String.format(GenerateData.MESSAGE_INVALID_NUMBER, "--lessons", "-1"), () ->
+                GenerateData.parse("--output", "data.json", "--lessons", "-1"));
+        assertThrows(IllegalArgumentException.class,
+                String.format(GenerateData.MESSAGE_INVALID_NUMBER, "--seed", "abc"), () ->
+                GenerateData.parse("--output", "data.json", "--seed", "abc"));
+        assertThrows(IllegalArgumentException.class, String.format(GenerateData.MESSAGE_UNKNOWN_FORMAT, "xml"), () ->
+                GenerateData.parse("--output", "data.json", "--format", "xml"));
+    }
+
+    @Test
+    public void parse_formatFromFileName() {
+        assertFalse(GenerateData.parse("--output", "data.json").isBinary());
+        assertTrue(GenerateData.parse("--output", "data.bin").isBinary());
+        assertTrue(GenerateData.parse("--output", "data.json", "--format", "binary").isBinary());
+        assertFalse(GenerateData.parse("--output", "data.bin", "--format", "json").isBinary());
+    }
+
+    @Test
+    public void parse_lessonCountNotGiven_oneLessonPerStudent() {
+        assertEquals(30, GenerateData.parse("--output", "data.json", "--students", "30").getLessonCount());
+        assertEquals(5, GenerateData.parse("--output", "data.json", "--students", "30", "--lessons", "5")
+                .getLessonCount());
+    }
+
+    @Test
+    public void run_json_readableAddressBookWritten() throws Exception {
+        Path jsonPath = testFolder.resolve("synthetic.json");
+        GenerateData.parse("--output", jsonPath.toString(), "--students", "300", "--lessons", "500",
+                "--assignments", "2", "--seed", "5").run();
+
+        AddressBook expected = new AddressBook(new SyntheticDataGenerator(5).generate(300, 500, 2));
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void run_binary_readableAddressBookWritten() throws Exception {
+        Path binaryPath = testFolder.resolve("synthetic.bin");
+        GenerateData.parse("--output", binaryPath.toString(), "--students", "300", "--seed", "5").run();
+
+        AddressBook expected = new AddressBook(new SyntheticDataGenerator(5).generate(300, 300, 3));
+        assertEquals(expected, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddStudentCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.StudentUtil;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void parse_validArguments() {
+        HeadlessMain headlessMain = HeadlessMain.parse();
+        assertNull(headlessMain.getCommandsPath());
+        assertNull(headlessMain.getDataPath());
+        assertNull(headlessMain.getConfigPath());
+
+        headlessMain = HeadlessMain.parse("--data", "data.bin", "--commands", "jobs.txt", "--config", "job.json");
+        assertEquals(Paths.get("jobs.txt"), headlessMain.getCommandsPath());
+        assertEquals(Paths.get("data.bin"), headlessMain.getDataPath());
+        assertEquals(Paths.get("job.json"), headlessMain.getConfigPath());
+    }
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessMain.MESSAGE_MISSING_VALUE, "--data"), () ->
+                HeadlessMain.parse("--data"));
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessMain.MESSAGE_UNKNOWN_OPTION, "--gui"), () ->
+                HeadlessMain.parse("--gui", "false"));
+    }
+
+    @Test
+    public void run_commands_feedbackPrintedAndSaved() throws Exception {
+        Path dataPath = testFolder.resolve("data.json");
+        Logic logic = HeadlessMain.initLogic(writeConfig(new UserPrefs()), dataPath);
+        String commands = String.join("\n", "# onboarding", StudentUtil.getAddStudentCommand(AMY), "",
+                "unknownCommand", "  " + StudentUtil.getAddStudentCommand(BOB));
+
+        int status = HeadlessMain.run(logic, new BufferedReader(new StringReader(commands)), print(out), print(err));
+
+        // a failed command does not stop the ones after it, but is reported in the exit status
+        assertEquals(HeadlessMain.EXIT_FAILURE, status);
+        assertEquals(List.of(AMY.getName().fullName, BOB.getName().fullName), getStudentNamesAdded(out));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        ReadOnlyAddressBook saved = new JournaledAddressBookStorage(dataPath).readAddressBook().get();
+        assertEquals(List.of(AMY, BOB), saved.getStudentList());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        Logic logic = HeadlessMain.initLogic(writeConfig(new UserPrefs()), testFolder.resolve("data.json"));
+        String commands = String.join("\n", ExitCommand.COMMAND_WORD, StudentUtil.getAddStudentCommand(AMY));
+
+        int status = HeadlessMain.run(logic, new BufferedReader(new StringReader(commands)), print(out), print(err));
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, status);
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+        assertTrue(logic.getAddressBook().getStudentList().isEmpty());
+    }
+
+    @Test
+    public void runFile_commandsFile_success() throws Exception {
+        Logic logic = HeadlessMain.initLogic(writeConfig(new UserPrefs()), testFolder.resolve("data.json"));
+        Path commandsPath = testFolder.resolve("commands.txt");
+        Files.write(commandsPath, List.of(ListStudentsCommand.COMMAND_WORD));
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, HeadlessMain.runFile(logic, commandsPath, print(out), print(err)));
+        assertEquals(ListStudentsCommand.MESSAGE_EMPTY_LIST + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runFile_missingFile_failure() throws Exception {
+        Logic logic = HeadlessMain.initLogic(writeConfig(new UserPrefs()), testFolder.resolve("data.json"));
+        Path commandsPath = testFolder.resolve("missing.txt");
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, HeadlessMain.runFile(logic, commandsPath, print(out), print(err)));
+        assertTrue(err.toString(StandardCharsets.UTF_8)
+                .startsWith(String.format(HeadlessMain.MESSAGE_COMMANDS_NOT_READ, commandsPath, "")));
+    }
+
+    @Test
+    public void initLogic_unreadableDataFile_throwsCommandException() throws Exception {
+        Path dataPath = testFolder.resolve("data.json");
+        Files.writeString(dataPath, "not json");
+        Path configPath = writeConfig(new UserPrefs());
+
+        CommandException e = org.junit.jupiter.api.Assertions.assertThrows(CommandException.class, () ->
+                HeadlessMain.initLogic(configPath, dataPath));
+        assertTrue(e.getMessage().startsWith(String.format(HeadlessMain.MESSAGE_DATA_NOT_LOADED, dataPath, "")));
+    }
+
+    @Test
+    public void initLogic_binaryPreferredButOnlyJsonFile_jsonConverted() throws Exception {
+        Path jsonPath = testFolder.resolve("data.json");
+        new JournaledAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonPath);
+        userPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+
+        Logic logic = HeadlessMain.initLogic(writeConfig(userPrefs), null);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(logic.getAddressBook()));
+        Path binaryPath = BinaryAddressBookStorage.getBinaryFilePath(jsonPath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(new BinaryAddressBookStorage(binaryPath)
+                .readAddressBook().get()));
+    }
+
+    /**
+     * Writes a config file and the {@code userPrefs} it points to into the test folder, so that the tests do not read
+     * the config and preferences of the working directory.
+     *
+     * @return the path to the config file.
+     */
+    private Path writeConfig(UserPrefs userPrefs) throws IOException {
+        Config config = new Config();
+        config.setUserPrefsFilePath(testFolder.resolve("preferences.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+        Path configPath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+        return configPath;
+    }
+
+    private static PrintStream print(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the names of the students that {@code out} reports as added.
+     */
+    private static List<String> getStudentNamesAdded(ByteArrayOutputStream out) {
+        String prefix = AddStudentCommand.MESSAGE_SUCCESS.replace("%1$s", "");
+        return out.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> line.substring(prefix.length(), line.indexOf(';')))
+                .toList();
+    }
+}
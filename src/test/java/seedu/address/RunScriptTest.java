@@ -0,0 +1,96 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.testutil.StudentUtil;
+
+public class RunScriptTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void parse_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RunScript.MESSAGE_MISSING_SCRIPT, () ->
+                RunScript.parse("--data", "data.json"));
+        assertThrows(IllegalArgumentException.class, String.format(RunScript.MESSAGE_MISSING_VALUE, "--data"), () ->
+                RunScript.parse("--script", "script.txt", "--data"));
+        assertThrows(IllegalArgumentException.class, String.format(RunScript.MESSAGE_UNKNOWN_OPTION, "--dry"), () ->
+                RunScript.parse("--script", "script.txt", "--dry", "true"));
+    }
+
+    @Test
+    public void run_json_dataFileSaved() throws Exception {
+        Path dataPath = testFolder.resolve("data.json");
+        Path scriptPath = writeScript(StudentUtil.getAddStudentCommand(AMY), StudentUtil.getAddStudentCommand(BOB));
+
+        String feedback = RunScript.parse("--script", scriptPath.toString(), "--data", dataPath.toString()).run();
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath), feedback);
+        ReadOnlyAddressBook saved = new JournaledAddressBookStorage(dataPath).readAddressBook().get();
+        assertEquals(List.of(AMY, BOB), saved.getStudentList());
+    }
+
+    @Test
+    public void run_binary_dataFileSaved() throws Exception {
+        Path dataPath = testFolder.resolve("data.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(ALICE);
+        new BinaryAddressBookStorage(dataPath).saveAddressBook(addressBook);
+        Path scriptPath = writeScript(StudentUtil.getAddStudentCommand(AMY));
+
+        RunScript.parse("--script", scriptPath.toString(), "--data", dataPath.toString()).run();
+
+        ReadOnlyAddressBook saved = new BinaryAddressBookStorage(dataPath).readAddressBook().get();
+        assertEquals(List.of(ALICE, AMY), saved.getStudentList());
+    }
+
+    @Test
+    public void run_failingScript_dataFileNotWritten() throws Exception {
+        Path dataPath = testFolder.resolve("data.json");
+        Path scriptPath = writeScript(StudentUtil.getAddStudentCommand(AMY), StudentUtil.getAddStudentCommand(AMY));
+
+        assertThrows(CommandException.class, () ->
+                RunScript.parse("--script", scriptPath.toString(), "--data", dataPath.toString()).run());
+        assertFalse(Files.exists(dataPath));
+    }
+
+    @Test
+    public void run_unreadableDataFile_notOverwritten() throws Exception {
+        Path dataPath = testFolder.resolve("data.json");
+        Files.writeString(dataPath, "not json");
+        Path scriptPath = writeScript(StudentUtil.getAddStudentCommand(AMY));
+        AddressBookStorage storage = new JournaledAddressBookStorage(dataPath);
+
+        CommandException e = org.junit.jupiter.api.Assertions.assertThrows(CommandException.class, () ->
+                RunScript.parse("--script", scriptPath.toString(), "--data", dataPath.toString()).run());
+        assertTrue(e.getMessage().startsWith(String.format(HeadlessMain.MESSAGE_DATA_NOT_LOADED, dataPath, "")));
+        assertEquals("not json", Files.readString(storage.getAddressBookFilePath()));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class ConfigTest {
@@ -12,7 +15,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", parallelLoading=" + config.isParallelLoading()
+                + ", flightRecording=" + config.isFlightRecording()
+                + ", flightRecordingFilePath=" + config.getFlightRecordingFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -21,6 +27,18 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertTrue(defaultConfig.equals(defaultConfig));
+
+        Config sequentialConfig = new Config();
+        sequentialConfig.setParallelLoading(false);
+        assertFalse(defaultConfig.equals(sequentialConfig));
+
+        Config recordingConfig = new Config();
+        recordingConfig.setFlightRecording(true);
+        assertFalse(defaultConfig.equals(recordingConfig));
+
+        Config otherRecordingFileConfig = new Config();
+        otherRecordingFileConfig.setFlightRecordingFilePath(Paths.get("other.jfr"));
+        assertFalse(defaultConfig.equals(otherRecordingFileConfig));
     }
 
 
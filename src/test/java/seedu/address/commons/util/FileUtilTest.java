@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,83 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileWritten() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.json");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomicallyKeepingBackup_existingFile_previousContentsKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeAtomicallyKeepingBackup(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeAtomicallyKeepingBackup(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertEquals(2, countFiles(testFolder));
+    }
+
+    @Test
+    public void writeAtomicallyKeepingBackup_manyWrites_backupHoldsPreviousContents() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (String contents : new String[] {"first", "second", "third"}) {
+            FileUtil.writeAtomicallyKeepingBackup(file, out -> out.write(contents.getBytes(StandardCharsets.UTF_8)));
+        }
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void copyAtomically_existingTarget_replacedAndSourceKept() throws Exception {
+        Path source = testFolder.resolve("source.json");
+        Path target = testFolder.resolve("target.json");
+        FileUtil.writeToFile(source, "new");
+        FileUtil.writeToFile(target, "old");
+
+        FileUtil.copyAtomically(source, target);
+        assertEquals("new", FileUtil.readFromFile(source));
+        assertEquals("new", FileUtil.readFromFile(target));
+
+        // replacing the source afterwards does not change the copy
+        FileUtil.writeToFile(source, "newer");
+        assertEquals("new", FileUtil.readFromFile(target));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomicallyKeepingBackup(file, out -> {
+            out.write("half of the new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void getBackupPath() {
+        assertEquals(testFolder.resolve("file.json.bak"), FileUtil.getBackupPath(testFolder.resolve("file.json")));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
 }
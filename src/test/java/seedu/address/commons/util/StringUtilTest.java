@@ -45,6 +45,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for isUnsignedInteger --------------------------------------
+
+    @Test
+    public void isUnsignedInteger() {
+
+        // EP: empty strings
+        assertFalse(StringUtil.isUnsignedInteger(""));
+        assertFalse(StringUtil.isUnsignedInteger("  "));
+
+        // EP: not a number
+        assertFalse(StringUtil.isUnsignedInteger("a"));
+
+        // EP: signed numbers
+        assertFalse(StringUtil.isUnsignedInteger("-1"));
+        assertFalse(StringUtil.isUnsignedInteger("-0"));
+        assertFalse(StringUtil.isUnsignedInteger("+1"));
+
+        // EP: numbers with white space
+        assertFalse(StringUtil.isUnsignedInteger(" 10 "));
+
+        // EP: number larger than Integer.MAX_VALUE
+        assertFalse(StringUtil.isUnsignedInteger(Long.toString(Integer.MAX_VALUE + 1L)));
+
+        // EP: valid numbers, should return true
+        assertTrue(StringUtil.isUnsignedInteger("0")); // Boundary value
+        assertTrue(StringUtil.isUnsignedInteger("10"));
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
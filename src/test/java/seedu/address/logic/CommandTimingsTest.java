@@ -0,0 +1,41 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTimings.Phase;
+
+public class CommandTimingsTest {
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        CommandTimings commandTimings = new CommandTimings();
+        assertThrows(NullPointerException.class, () -> commandTimings.record(null, Phase.PARSE, 1));
+        assertThrows(NullPointerException.class, () -> commandTimings.record("list_students", null, 1));
+    }
+
+    @Test
+    public void record_separatePerCommandWordAndPhase() {
+        CommandTimings commandTimings = new CommandTimings();
+        assertTrue(commandTimings.isEmpty());
+
+        commandTimings.record("list_students", Phase.PARSE, 100);
+        commandTimings.record("list_students", Phase.PARSE, 200);
+        commandTimings.record("list_students", Phase.EXECUTE, 300);
+        commandTimings.record("add_student", Phase.SAVE, 400);
+
+        assertFalse(commandTimings.isEmpty());
+        assertEquals(List.of("add_student", "list_students"), commandTimings.getCommandWords());
+        assertEquals(2, commandTimings.getHistogram("list_students", Phase.PARSE).getCount());
+        assertEquals(1, commandTimings.getHistogram("list_students", Phase.EXECUTE).getCount());
+        assertEquals(0, commandTimings.getHistogram("list_students", Phase.SAVE).getCount());
+        assertEquals(400, commandTimings.getHistogram("add_student", Phase.SAVE).getMax());
+        assertEquals(0, commandTimings.getHistogram("clear", Phase.PARSE).getCount());
+    }
+}
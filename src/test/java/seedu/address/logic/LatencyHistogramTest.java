@@ -0,0 +1,80 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketOf_highestValueIn_consistent() {
+        long[] values = {0, 1, 15, 16, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueIn(bucket);
+            assertTrue(highest >= value);
+            // a bucket is at most 1/16 of its values wide
+            assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKET_COUNT);
+            if (highest < Long.MAX_VALUE) {
+                assertEquals(bucket + 1, LatencyHistogram.bucketOf(highest + 1));
+            }
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_empty_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformDurations_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        histogram.record(-5); // recorded as zero
+
+        assertEquals(1001, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertWithinBucketError(500_000, histogram.getValueAtPercentile(50));
+        assertWithinBucketError(950_000, histogram.getValueAtPercentile(95));
+        assertWithinBucketError(990_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(1.0, histogram.getMaxMillis());
+    }
+
+    @Test
+    public void record_concurrently_noneLost() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(j);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+        assertEquals(9_999, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinBucketError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKET_COUNT,
+                "expected about " + expected + " but was " + actual);
+    }
+}
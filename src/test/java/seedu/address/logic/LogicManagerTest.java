@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_EMPTY_STUDENT_LIST;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -11,18 +13,32 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.SUBJECT_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.events.ExecuteCommandEvent;
+import seedu.address.commons.events.ParseCommandEvent;
+import seedu.address.commons.events.SaveAddressBookEvent;
+import seedu.address.logic.CommandTimings.Phase;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -93,6 +109,119 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        logic = createLogicWithFailingStorage(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListStudentsCommand.COMMAND_WORD, ListStudentsCommand.MESSAGE_EMPTY_LIST, model);
+    }
+
+    @Test
+    public void execute_saveFailed_retriedOnNextCommand() {
+        logic = createLogicWithFailingStorage(DUMMY_IO_EXCEPTION);
+        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addStudentCommand));
+
+        // the unsaved change is still pending, so even a read-only command tries to save it again
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ListStudentsCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_commands_phasesTimedPerCommandWord() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addStudentCommand);
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+        assertCommandException("delete_student 9", MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        CommandTimings commandTimings = logicManager.getCommandTimings();
+        // commands that do not parse are not timed
+        assertEquals(List.of(AddStudentCommand.COMMAND_WORD, "delete_student", ListStudentsCommand.COMMAND_WORD),
+                commandTimings.getCommandWords());
+        assertEquals(1, commandTimings.getHistogram(AddStudentCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, commandTimings.getHistogram(ListStudentsCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(0, commandTimings.getHistogram(ListStudentsCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        // commands that fail are still timed
+        assertEquals(1, commandTimings.getHistogram("delete_student", Phase.EXECUTE).getCount());
+
+        // background writes are timed under the last command that saved
+        logicManager.recordWriteTime(2_000_000);
+        assertEquals(1, commandTimings.getHistogram(AddStudentCommand.COMMAND_WORD, Phase.WRITE).getCount());
+        assertEquals(0, commandTimings.getHistogram(ListStudentsCommand.COMMAND_WORD, Phase.WRITE).getCount());
+
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains(AddStudentCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_abbreviatedCommand_timedUnderCommandWord() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logic.execute("list_s");
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+
+        CommandTimings commandTimings = logicManager.getCommandTimings();
+        assertEquals(List.of(ListStudentsCommand.COMMAND_WORD), commandTimings.getCommandWords());
+        assertEquals(2, commandTimings.getHistogram(ListStudentsCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+    }
+
+    @Test
+    public void execute_flightRecording_eventsRecorded() throws Exception {
+        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
+        Path recordingPath = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseCommandEvent.class);
+            recording.enable(ExecuteCommandEvent.class);
+            recording.enable(SaveAddressBookEvent.class);
+            recording.start();
+            logic.execute(addStudentCommand);
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        RecordedEvent parseEvent = getOnlyEvent(events, ParseCommandEvent.class);
+        assertEquals(AddStudentCommand.COMMAND_WORD, parseEvent.getString("commandWord"));
+        assertTrue(parseEvent.getBoolean("isParsed"));
+        RecordedEvent executeEvent = getOnlyEvent(events, ExecuteCommandEvent.class);
+        assertEquals(AddStudentCommand.COMMAND_WORD, executeEvent.getString("commandWord"));
+        assertEquals(1, executeEvent.getInt("studentCount"));
+        RecordedEvent saveEvent = getOnlyEvent(events, SaveAddressBookEvent.class);
+        assertEquals(1, saveEvent.getInt("studentCount"));
+        assertEquals(Files.size(temporaryFolder.resolve("tutorTrack.json")), saveEvent.getLong("fileSize"));
+    }
+
+    @Test
+    public void execute_whileLoading_commandRejected() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.startLoading();
+        assertTrue(logic.loadingProperty().get());
+
+        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
+        assertCommandException(addStudentCommand, Messages.MESSAGE_STILL_LOADING);
+        assertCommandException(ListStudentsCommand.COMMAND_WORD, Messages.MESSAGE_STILL_LOADING);
+
+        logicManager.finishLoading(getTypicalAddressBook());
+        assertFalse(logic.loadingProperty().get());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        logic.execute(addStudentCommand);
+    }
+
+    @Test
+    public void finishLoading_loadedAddressBookNotSaved() throws Exception {
+        LogicManager logicManager = createLogicWithFailingStorage(DUMMY_IO_EXCEPTION);
+        logic = logicManager;
+        logicManager.startLoading();
+        logicManager.finishLoading(getTypicalAddressBook());
+
+        // the loaded data is already in the data file, so a read-only command does not try to save it
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStudentList().remove(0));
@@ -158,6 +287,21 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = createLogicWithFailingStorage(e);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
+        Student expectedStudent = new StudentBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addStudent(expectedStudent);
+        assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code LogicManager} on {@code model} whose address book storage throws {@code e} when saving.
+     */
+    private LogicManager createLogicWithFailingStorage(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -173,14 +317,15 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        return new LogicManager(model, storage);
+    }
 
-        // Triggers the saveAddressBook method by executing an add command
-        String addStudentCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + SUBJECT_DESC_AMY + ADDRESS_DESC_AMY;
-        Student expectedStudent = new StudentBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addStudent(expectedStudent);
-        assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
+    private static RecordedEvent getOnlyEvent(List<RecordedEvent> events, Class<? extends Event> eventClass) {
+        String eventName = eventClass.getAnnotation(Name.class).value();
+        List<RecordedEvent> matchingEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        assertEquals(1, matchingEvents.size());
+        return matchingEvents.get(0);
     }
 }
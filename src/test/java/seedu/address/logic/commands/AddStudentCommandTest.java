@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +21,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.assignment.DueAssignment;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.subject.Subject;
 import seedu.address.testutil.StudentBuilder;
@@ -141,11 +146,26 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStudent(Student student) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasStudentOtherThan(Student target, Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteStudent(Student target) {
             throw new AssertionError("This method should not be called.");
@@ -171,6 +191,16 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<DueAssignment> getAssignmentsDueBetween(LocalDate firstDay, LocalDate lastDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<DueAssignment> getOverdueAssignments(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +216,21 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Lesson> getLessonsOfStudent(Name studentName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessonsOfStudent(Name studentName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void renameLessonsOfStudent(Name oldName, Name newName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Student> getFilteredStudentList() {
             throw new AssertionError("This method should not be called.");
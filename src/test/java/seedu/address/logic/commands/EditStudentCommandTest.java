@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccessWithUpdate;
+import static seedu.address.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalStudents.ALICE;
@@ -28,8 +29,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.model.student.Student;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class EditStudentCommandTest {
@@ -107,6 +110,21 @@ public class EditStudentCommandTest {
         assertCommandFailure(editStudentCommand, model, EditStudentCommand.MESSAGE_DUPLICATE_STUDENT);
     }
 
+    @Test
+    public void execute_duplicateStudentHiddenByFilter_throwsCommandException() {
+        Lesson bensonLesson = new LessonBuilder().withName(BENSON.getName().fullName).build();
+        model.addLesson(bensonLesson);
+        showStudentAtIndex(model, INDEX_SECOND);
+
+        // Alice is not in the filtered list, but her name is still taken
+        EditStudentCommand.EditStudentDescriptor descriptor = new EditStudentDescriptorBuilder()
+                .withName(ALICE.getName().fullName).build();
+        EditStudentCommand editStudentCommand = new EditStudentCommand(INDEX_FIRST, descriptor);
+
+        assertCommandFailure(editStudentCommand, model, EditStudentCommand.MESSAGE_DUPLICATE_STUDENT);
+        assertEquals(List.of(bensonLesson), model.getAddressBook().getLessonList());
+    }
+
     @Test
     public void equals() {
         final EditStudentCommand standardCommand = new EditStudentCommand(INDEX_FIRST,
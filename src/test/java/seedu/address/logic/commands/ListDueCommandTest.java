@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.testutil.AssignmentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListDueCommand.
+ */
+public class ListDueCommandTest {
+
+    private final Assignment essay = new AssignmentBuilder().withAssignmentName("Essay")
+            .withDueDate(daysFromToday(3)).build();
+    private final Assignment project = new AssignmentBuilder().withAssignmentName("Project")
+            .withDueDate(daysFromToday(10)).build();
+
+    @Test
+    public void execute_assignmentsDueWithinDays_listsOnlyThoseAssignments() {
+        Model model = new ModelManager(getAddressBookWithAssignments(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(ListDueCommand.MESSAGE_DUE_WITHIN, 1, 7)
+                + "\n1. Essay for Amy Bee; Due: " + essay.getDueDate();
+        assertCommandSuccess(new ListDueCommand(7), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noAssignmentsDue_noAssignmentsFound() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ListDueCommand(7), model, ListDueCommand.MESSAGE_NO_ASSIGNMENTS_FOUND,
+                expectedModel);
+        assertCommandSuccess(new ListDueCommand(), model, ListDueCommand.MESSAGE_NO_ASSIGNMENTS_FOUND,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_assignmentMarked_listedAsDone() throws Exception {
+        Model model = new ModelManager(getAddressBookWithAssignments(), new UserPrefs());
+        new MarkAssignmentCommand(Index.fromOneBased(1), "Essay").execute(model);
+
+        CommandResult result = new ListDueCommand(30).execute(model);
+        assertTrue(result.getFeedbackToUser().contains("Essay for Amy Bee; Due: " + essay.getDueDate() + " (done)"));
+        assertFalse(result.getFeedbackToUser().contains("Project for Amy Bee; Due: " + project.getDueDate()
+                + " (done)"));
+    }
+
+    @Test
+    public void equals() {
+        ListDueCommand listDueWeekCommand = new ListDueCommand(7);
+        ListDueCommand listOverdueCommand = new ListDueCommand();
+
+        // same object -> returns true
+        assertTrue(listDueWeekCommand.equals(listDueWeekCommand));
+
+        // same values -> returns true
+        assertTrue(listDueWeekCommand.equals(new ListDueCommand(7)));
+        assertTrue(listOverdueCommand.equals(new ListDueCommand()));
+
+        // different types -> returns false
+        assertFalse(listDueWeekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listDueWeekCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(listDueWeekCommand.equals(new ListDueCommand(8)));
+        assertFalse(listDueWeekCommand.equals(listOverdueCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListDueCommand listDueCommand = new ListDueCommand(7);
+        String expected = ListDueCommand.class.getCanonicalName() + "{days=" + Optional.of(7) + "}";
+        assertEquals(expected, listDueCommand.toString());
+    }
+
+    private AddressBook getAddressBookWithAssignments() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(new StudentBuilder().withAssignment(essay).withAssignment(project).build());
+        return addressBook;
+    }
+
+    private static Date daysFromToday(int days) {
+        return new Date(LocalDate.now().plusDays(days).format(DateTimeFormatter.ofPattern("d-M-uuuu")));
+    }
+}
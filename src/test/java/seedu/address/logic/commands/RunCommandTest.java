@@ -0,0 +1,180 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.AMY;
+import static seedu.address.testutil.TypicalStudents.BOB;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.AssignmentBuilder;
+import seedu.address.testutil.AssignmentUtil;
+import seedu.address.testutil.StudentUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, addressBookParser));
+        assertThrows(NullPointerException.class, () -> new RunCommand(Paths.get("script.txt"), null));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsAppliedOnce() throws Exception {
+        Path scriptPath = writeScript("# new students",
+                StudentUtil.getAddStudentCommand(AMY),
+                "",
+                "   " + StudentUtil.getAddStudentCommand(BOB) + "   ",
+                DeleteStudentCommand.COMMAND_WORD + " 1");
+        long version = model.getAddressBookVersion();
+
+        CommandResult result = new RunCommand(scriptPath, addressBookParser).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, scriptPath), result.getFeedbackToUser());
+        assertTrue(result.isUpdateList());
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.removeStudent(ALICE);
+        expectedAddressBook.addStudent(AMY);
+        expectedAddressBook.addStudent(BOB);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+        // the whole script is a single change, so it is saved once
+        assertEquals(version + 1, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_failingCommand_nothingChanged() throws Exception {
+        Path scriptPath = writeScript(StudentUtil.getAddStudentCommand(AMY),
+                StudentUtil.getAddStudentCommand(ALICE),
+                StudentUtil.getAddStudentCommand(BOB));
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, scriptPath)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, AddStudentCommand.MESSAGE_DUPLICATE_STUDENT);
+
+        // AMY, added before the failing line, is not kept either
+        assertCommandFailure(new RunCommand(scriptPath, addressBookParser), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_failingCommandAfterAssignmentCommand_assignmentsUnchanged() throws Exception {
+        Assignment assignment = new AssignmentBuilder().build();
+        Path scriptPath = writeScript(AssignmentUtil.getAddAssignmentCommand(assignment),
+                StudentUtil.getAddStudentCommand(ALICE));
+        Student student = model.getFilteredStudentList().get(0);
+        int assignmentCount = student.getAssignments().asUnmodifiableObservableList().size();
+
+        assertThrows(CommandException.class, () -> new RunCommand(scriptPath, addressBookParser).execute(model));
+
+        // assignments are changed in place, so the students of the address book must not have been run on
+        assertFalse(student.hasAssignment(assignment));
+        assertEquals(assignmentCount, student.getAssignments().asUnmodifiableObservableList().size());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_parseErrors_allReported() throws Exception {
+        Path scriptPath = writeScript("unknownCommand",
+                StudentUtil.getAddStudentCommand(ALICE),
+                StudentUtil.getAddStudentCommand(AMY),
+                RunCommand.COMMAND_WORD + " other.txt");
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED, scriptPath)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 1, MESSAGE_UNKNOWN_COMMAND)
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommand.MESSAGE_NESTED_RUN);
+
+        // commands after an error are parsed but not run, so adding ALICE again is not reported
+        assertCommandFailure(new RunCommand(scriptPath, addressBookParser), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_manyErrors_onlyFirstErrorsShown() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_ERRORS_SHOWN + 3; i++) {
+            lines.add("unknownCommand");
+        }
+        Path scriptPath = writeScript(lines.toArray(new String[0]));
+
+        CommandException e = org.junit.jupiter.api.Assertions.assertThrows(CommandException.class, () ->
+                new RunCommand(scriptPath, addressBookParser).execute(model));
+        assertTrue(e.getMessage().contains(String.format(RunCommand.MESSAGE_LINE_ERROR,
+                RunCommand.MAX_ERRORS_SHOWN, MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(e.getMessage().contains(String.format(RunCommand.MESSAGE_LINE_ERROR,
+                RunCommand.MAX_ERRORS_SHOWN + 1, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(e.getMessage().endsWith(String.format(RunCommand.MESSAGE_MORE_ERRORS, 3)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptPath = testFolder.resolve("missing.txt");
+        CommandException e = org.junit.jupiter.api.Assertions.assertThrows(CommandException.class, () ->
+                new RunCommand(scriptPath, addressBookParser).execute(model));
+        assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_READ_FAILED, scriptPath, "")));
+    }
+
+    @Test
+    public void execute_emptyScript_success() throws Exception {
+        Path scriptPath = writeScript();
+        CommandResult result = new RunCommand(scriptPath, addressBookParser).execute(model);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 0, scriptPath), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), addressBookParser);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("a.txt"), addressBookParser)));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("b.txt"), addressBookParser)));
+
+        // different parser -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("a.txt"), new AddressBookParser())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"), addressBookParser);
+        assertEquals(RunCommand.class.getCanonicalName() + "{filePath=a.txt}", runCommand.toString());
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandTimings;
+import seedu.address.logic.CommandTimings.Phase;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final CommandTimings commandTimings = new CommandTimings();
+
+    @Test
+    public void execute_noTimings_noTimingsMessage() {
+        assertCommandSuccess(new StatsCommand(commandTimings), model, StatsCommand.MESSAGE_NO_TIMINGS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_timings_percentilesShown() throws Exception {
+        commandTimings.record("list_students", Phase.PARSE, 1_000_000);
+        commandTimings.record("list_students", Phase.EXECUTE, 2_000_000);
+
+        String feedback = new StatsCommand(commandTimings).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(StatsCommand.MESSAGE_TIMINGS));
+        assertTrue(feedback.contains("\nlist_students\n  parse: 1 run(s), p50 1.000, p95 1.000, p99 1.000"));
+        assertTrue(feedback.contains("\n  execute: 1 run(s), p50 2.000"));
+        // no save phase, as nothing was saved
+        assertFalse(feedback.contains("save"));
+    }
+
+    @Test
+    public void execute_exportPath_csvWritten() throws Exception {
+        commandTimings.record("add_student", Phase.SAVE, 3_000_000);
+        Path exportPath = testFolder.resolve("stats").resolve("timings.csv");
+
+        String feedback = new StatsCommand(commandTimings, exportPath).execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(StatsCommand.MESSAGE_EXPORTED, exportPath)));
+        assertEquals(List.of(StatsCommand.CSV_HEADER, "add_student,save,1,3.000,3.000,3.000,3.000"),
+                Files.readAllLines(exportPath));
+    }
+
+    @Test
+    public void execute_exportPathIsFolder_throwsCommandException() throws Exception {
+        commandTimings.record("add_student", Phase.SAVE, 3_000_000);
+        Path folder = Files.createDirectory(testFolder.resolve("folder"));
+        FileUtil.writeToFile(folder.resolve("file"), "");
+
+        assertThrows(CommandException.class, () -> new StatsCommand(commandTimings, folder).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(commandTimings);
+        Path exportPath = testFolder.resolve("timings.csv");
+        StatsCommand exportCommand = new StatsCommand(commandTimings, exportPath);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same values -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandTimings)));
+        assertTrue(exportCommand.equals(new StatsCommand(commandTimings, exportPath)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different timings -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandTimings())));
+
+        // different export path -> returns false
+        assertFalse(statsCommand.equals(exportCommand));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ASSIGNMENT_NAME_DESC_AMY;
@@ -9,6 +10,7 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_NAME_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,6 +18,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandTimings;
 import seedu.address.logic.commands.AddAssignmentCommand;
 import seedu.address.logic.commands.AddLessonCommand;
 import seedu.address.logic.commands.AddStudentCommand;
@@ -29,9 +32,12 @@ import seedu.address.logic.commands.EditStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindStudentCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListDueCommand;
 import seedu.address.logic.commands.ListLessonsCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
 import seedu.address.logic.commands.MarkAssignmentCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnmarkAssignmentCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.assignment.Assignment;
@@ -147,6 +153,27 @@ public class AddressBookParserTest {
         assertEquals(new UnmarkAssignmentCommand(Index.fromOneBased(1), VALID_ASSIGNMENT_NAME_AMY.trim()), command);
     }
 
+    @Test
+    public void parseCommand_listDue() throws Exception {
+        assertEquals(new ListDueCommand(7), parser.parseCommand(ListDueCommand.COMMAND_WORD + " 7"));
+        assertEquals(new ListDueCommand(), parser.parseCommand(ListDueCommand.COMMAND_WORD + " overdue"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandTimings commandTimings = new CommandTimings();
+        AddressBookParser timedParser = new AddressBookParser(commandTimings);
+        assertEquals(new StatsCommand(commandTimings), timedParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandTimings, Paths.get("stats.csv")),
+                timedParser.parseCommand(StatsCommand.COMMAND_WORD + " stats.csv"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("script.txt"), parser),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt"));
+    }
+
     @Test
     public void parseCommand_listLessons() throws Exception {
         assertTrue(parser.parseCommand(ListLessonsCommand.COMMAND_WORD) instanceof ListLessonsCommand);
@@ -195,4 +222,45 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_aliasOrAbbreviation() throws Exception {
+        assertTrue(parser.parseCommand("quit") instanceof ExitCommand);
+        assertTrue(parser.parseCommand("he 3") instanceof HelpCommand);
+        assertEquals(new FindStudentCommand(new NameContainsKeywordsPredicate(List.of("foo"))),
+                parser.parseCommand("find_s foo"));
+    }
+
+    @Test
+    public void parse_aliasOrAbbreviation_commandWordResolved() throws Exception {
+        ParsedCommand parsedCommand = parser.parse("  list_s  3");
+        assertTrue(parsedCommand.getCommand() instanceof ListStudentsCommand);
+        assertEquals(ListStudentsCommand.COMMAND_WORD, parsedCommand.getCommandWord());
+        assertEquals(ExitCommand.COMMAND_WORD, parser.parse("quit").getCommandWord());
+    }
+
+    @Test
+    public void parseCommand_abbreviationOfCommandThatCannotBeUndone_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "c",
+                ClearCommand.COMMAND_WORD), () -> parser.parseCommand("c"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "delete_s",
+                DeleteStudentCommand.COMMAND_WORD), () -> parser.parseCommand("delete_s 1"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("delete_l 1"));
+        assertThrows(ParseException.class, () -> parser.parseCommand("delete_a 1 1"));
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "list",
+                String.join(", ", ListDueCommand.COMMAND_WORD, ListLessonsCommand.COMMAND_WORD,
+                        ListStudentsCommand.COMMAND_WORD)), () -> parser.parseCommand("list"));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand() throws Exception {
+        parser.getCommandRegistry().register("hello", arguments -> new HelpCommand());
+        assertTrue(parser.parseCommand("hello") instanceof HelpCommand);
+        // "h" now stands for both help and hello
+        assertThrows(ParseException.class, () -> parser.parseCommand("h"));
+    }
 }
@@ -136,6 +136,48 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_whitespaceInValues_collapsed() {
+        String argsString = " \t Some \n preamble p/\tpSlash \r\n\f value\u000B -t  dashT\tvalue \t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "Some preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognised() {
+        // Only a space before a prefix marks the start of an argument
+        String argsString = " preamble\tp/not a value\n-t not a value either";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "preamble p/not a value -t not a value either");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenize_prefixesSharingCharacters() {
+        Prefix aSlash = new Prefix("a/");
+        Prefix asSlash = new Prefix("as/");
+        Prefix sSlash = new Prefix("s/");
+        String argsString = " as/assignment a/address s/subject as/ s/as/ a/s/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, aSlash, asSlash, sSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, asSlash, "assignment", "");
+        assertArgumentPresent(argMultimap, aSlash, "address", "s/");
+        assertArgumentPresent(argMultimap, sSlash, "subject", "as/");
+    }
+
+    @Test
+    public void tokenize_prefixStartingWithAnother_longerPrefixTaken() {
+        Prefix sSlash = new Prefix("s/");
+        Prefix sSlashX = new Prefix("s/x/");
+        String argsString = " s/x/ first s/ second s/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, sSlash, sSlashX);
+        assertArgumentPresent(argMultimap, sSlashX, "first");
+        assertArgumentPresent(argMultimap, sSlash, "second", "x");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
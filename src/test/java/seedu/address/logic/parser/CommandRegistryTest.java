@@ -0,0 +1,141 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD;
+import static seedu.address.logic.parser.CommandRegistry.MESSAGE_INVALID_COMMAND_WORD;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListStudentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @BeforeEach
+    public void setUp() {
+        registry.register("list_students", arguments -> new ListStudentsCommand());
+        registry.register("list_lessons", arguments -> new HelpCommand());
+        registry.register("exit", arguments -> new ExitCommand(), "quit", "bye");
+    }
+
+    @Test
+    public void register_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, arguments -> new ClearCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register("clear", null));
+    }
+
+    @Test
+    public void register_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(MESSAGE_INVALID_COMMAND_WORD, ""), () ->
+                registry.register("", arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class, String.format(MESSAGE_INVALID_COMMAND_WORD, "clear all"), () ->
+                registry.register("clear", arguments -> new ClearCommand(), "clear all"));
+        // nothing is registered when any name is invalid
+        assertEquals(Optional.empty(), registry.findCommandWord("clear"));
+    }
+
+    @Test
+    public void register_duplicateName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(MESSAGE_DUPLICATE_COMMAND_WORD, "exit"), () ->
+                registry.register("exit", arguments -> new ClearCommand()));
+        assertThrows(IllegalArgumentException.class, String.format(MESSAGE_DUPLICATE_COMMAND_WORD, "quit"), () ->
+                registry.register("clear", arguments -> new ClearCommand(), "quit"));
+        assertThrows(IllegalArgumentException.class, String.format(MESSAGE_DUPLICATE_COMMAND_WORD, "cls"), () ->
+                registry.register("clear", arguments -> new ClearCommand(), "cls", "cls"));
+    }
+
+    @Test
+    public void findCommandWord() {
+        // command word
+        assertEquals(Optional.of("exit"), registry.findCommandWord("exit"));
+
+        // alias
+        assertEquals(Optional.of("exit"), registry.findCommandWord("quit"));
+        assertEquals(Optional.of("exit"), registry.findCommandWord("bye"));
+
+        // abbreviations of the command word and its aliases
+        assertEquals(Optional.of("exit"), registry.findCommandWord("e"));
+        assertEquals(Optional.of("exit"), registry.findCommandWord("qu"));
+        assertEquals(Optional.of("list_students"), registry.findCommandWord("list_s"));
+
+        // abbreviation shared by two commands
+        assertEquals(Optional.empty(), registry.findCommandWord("list_"));
+
+        // not a name or abbreviation
+        assertEquals(Optional.empty(), registry.findCommandWord("exits"));
+        assertEquals(Optional.empty(), registry.findCommandWord("EXIT"));
+        assertEquals(Optional.empty(), registry.findCommandWord(""));
+    }
+
+    @Test
+    public void findCommandWord_nameIsAbbreviationOfAnother_nameTaken() {
+        registry.register("list", arguments -> new ListStudentsCommand());
+        assertEquals(Optional.of("list"), registry.findCommandWord("list"));
+        // "lis" is short for three commands now
+        assertEquals(Optional.empty(), registry.findCommandWord("lis"));
+    }
+
+    @Test
+    public void registerUnabbreviated() throws Exception {
+        registry.registerUnabbreviated("clear", arguments -> new ClearCommand(), "cls");
+        assertTrue(registry.parse("clear", "").getCommand() instanceof ClearCommand);
+        assertTrue(registry.parse("cls", "").getCommand() instanceof ClearCommand);
+
+        // abbreviations only it has are not taken
+        assertEquals(Optional.empty(), registry.findCommandWord("c"));
+        assertEquals(Optional.empty(), registry.findCommandWord("cle"));
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "cl", "clear"), () ->
+                registry.parse("cl", ""));
+
+        // but still stop other commands from taking abbreviations it shares
+        registry.register("exit_all", arguments -> new ExitCommand());
+        registry.registerUnabbreviated("exit_now", arguments -> new ClearCommand());
+        assertEquals(Optional.of("exit_all"), registry.findCommandWord("exit_a"));
+        assertEquals(Optional.empty(), registry.findCommandWord("exit_"));
+        assertEquals(Optional.empty(), registry.findCommandWord("exit_n"));
+        assertEquals(Optional.of("exit"), registry.findCommandWord("exit"));
+    }
+
+    @Test
+    public void parse() throws Exception {
+        ParsedCommand parsedCommand = registry.parse("list_st", " 3");
+        assertTrue(parsedCommand.getCommand() instanceof ListStudentsCommand);
+        assertEquals("list_students", parsedCommand.getCommandWord());
+        assertTrue(registry.parse("bye", "").getCommand() instanceof ExitCommand);
+    }
+
+    @Test
+    public void resolve() throws Exception {
+        assertEquals("exit", registry.resolve("qu").getCommandWord());
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolve("exits"));
+    }
+
+    @Test
+    public void parse_unknownWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("clear", ""));
+    }
+
+    @Test
+    public void parse_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "l",
+                "list_lessons, list_students"), () -> registry.parse("l", ""));
+    }
+
+    @Test
+    public void getCommandWords() {
+        assertEquals(Set.of("exit", "list_lessons", "list_students"), registry.getCommandWords());
+    }
+}
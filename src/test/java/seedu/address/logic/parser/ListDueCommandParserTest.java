@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListDueCommand;
+
+public class ListDueCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListDueCommand.MESSAGE_USAGE);
+
+    private ListDueCommandParser parser = new ListDueCommandParser();
+
+    @Test
+    public void parse_validDays_returnsListDueCommand() {
+        assertParseSuccess(parser, " 7 ", new ListDueCommand(7));
+        assertParseSuccess(parser, "0", new ListDueCommand(0));
+    }
+
+    @Test
+    public void parse_overdueKeyword_returnsListDueCommand() {
+        assertParseSuccess(parser, " overdue ", new ListDueCommand());
+        assertParseSuccess(parser, "OVERDUE", new ListDueCommand());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a week", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "7 days", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final RunCommandParser parser = new RunCommandParser(addressBookParser);
+
+    @Test
+    public void parse_validPath_returnsRunCommand() {
+        assertParseSuccess(parser, " data/new term.txt ",
+                new RunCommand(Paths.get("data/new term.txt"), addressBookParser));
+    }
+
+    @Test
+    public void parse_noPath_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " data/\0.txt", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandTimings;
+import seedu.address.logic.commands.StatsCommand;
+
+public class StatsCommandParserTest {
+
+    private final CommandTimings commandTimings = new CommandTimings();
+    private final StatsCommandParser parser = new StatsCommandParser(commandTimings);
+
+    @Test
+    public void parse_noArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(commandTimings));
+        assertParseSuccess(parser, "   ", new StatsCommand(commandTimings));
+    }
+
+    @Test
+    public void parse_file_returnsExportingStatsCommand() {
+        assertParseSuccess(parser, " data/stats.csv ", new StatsCommand(commandTimings, Paths.get("data/stats.csv")));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "data/\0stats.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
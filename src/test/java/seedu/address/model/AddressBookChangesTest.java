@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookChanges.Splice;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalLessons;
+
+public class AddressBookChangesTest {
+
+    @Test
+    public void takeAddressBookChanges_changesThroughModel_replayedOntoOldListsGivesNewLists() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addLesson(TypicalLessons.ALICE);
+        addressBook.addLesson(TypicalLessons.BENNY);
+        addressBook.addLesson(new LessonBuilder(TypicalLessons.ALICE).withTime("18:00").build());
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        List<Student> students = new ArrayList<>(model.getAddressBook().getStudentList());
+        List<Lesson> lessons = new ArrayList<>(model.getAddressBook().getLessonList());
+
+        Student editedBenson = new StudentBuilder(BENSON).withName("Benson Changed").build();
+        model.setStudent(BENSON, editedBenson);
+        model.renameLessonsOfStudent(BENSON.getName(), editedBenson.getName());
+        model.deleteStudent(ALICE);
+        model.deleteLessonsOfStudent(ALICE.getName());
+        model.addStudent(HOON);
+        Student carlWithEssay = new StudentBuilder(CARL)
+                .withAssignment(new Assignment("Essay", new Date("10-01-2030"))).build();
+        model.setStudent(CARL, carlWithEssay);
+        model.deleteAssignment(carlWithEssay, "Essay");
+        replay(model.takeAddressBookChanges(), students, lessons);
+
+        assertEquals(model.getAddressBook().getStudentList(), students);
+        assertEquals(model.getAddressBook().getLessonList(), lessons);
+        assertTrue(model.takeAddressBookChanges().isEmpty());
+    }
+
+    @Test
+    public void takeAddressBookChanges_addressBookReplaced_replayedOntoOldListsGivesNewLists() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Student> students = new ArrayList<>(model.getAddressBook().getStudentList());
+        List<Lesson> lessons = new ArrayList<>(model.getAddressBook().getLessonList());
+
+        AddressBook replacement = new AddressBook();
+        replacement.addStudent(HOON);
+        replacement.addLesson(TypicalLessons.ALICE);
+        model.setAddressBook(replacement);
+        replay(model.takeAddressBookChanges(), students, lessons);
+
+        assertEquals(model.getAddressBook().getStudentList(), students);
+        assertEquals(model.getAddressBook().getLessonList(), lessons);
+    }
+
+    @Test
+    public void takeAddressBookChanges_singleStudentChangedInPlace_changeKept() throws Exception {
+        Student student = new StudentBuilder().withAssignment(new Assignment("Essay", new Date("10-01-2030")))
+                .build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(student);
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        Student storedStudent = model.getAddressBook().getStudentList().get(0);
+
+        storedStudent.getAssignments().markAssignment("Essay");
+        model.setStudent(storedStudent, storedStudent);
+
+        assertEquals(List.of(new Splice<>(0, 1, List.of(storedStudent))),
+                model.takeAddressBookChanges().getStudentChanges());
+    }
+
+    @Test
+    public void copy_studentChangedAfterCopy_copyUnchanged() throws Exception {
+        Student student = new StudentBuilder().withAssignment(new Assignment("Essay", new Date("10-01-2030")))
+                .build();
+        AddressBookChanges changes = new AddressBookChanges(List.of(new Splice<>(0, 0, List.of(student))),
+                List.of());
+
+        AddressBookChanges copy = changes.copy();
+        student.getAssignments().markAssignment("Essay");
+
+        Student copiedStudent = copy.getStudentChanges().get(0).getAdded().get(0);
+        assertFalse(copiedStudent.getAssignments().getAssignment("Essay").isDone());
+    }
+
+    @Test
+    public void then_changesAppendedInOrder() {
+        Splice<Student> first = new Splice<>(0, 0, List.of(ALICE));
+        Splice<Student> second = new Splice<>(0, 1, List.of());
+        Splice<Lesson> lessonChange = new Splice<>(0, 0, List.of(TypicalLessons.ALICE));
+
+        AddressBookChanges combined = new AddressBookChanges(List.of(first), List.of())
+                .then(new AddressBookChanges(List.of(second), List.of(lessonChange)));
+
+        assertEquals(new AddressBookChanges(List.of(first, second), List.of(lessonChange)), combined);
+        assertTrue(AddressBookChanges.NONE.then(AddressBookChanges.NONE).isEmpty());
+    }
+
+    private static void replay(AddressBookChanges changes, List<Student> students, List<Lesson> lessons) {
+        changes.getStudentChanges().forEach(change -> change.applyTo(students));
+        changes.getLessonChanges().forEach(change -> change.applyTo(lessons));
+    }
+}
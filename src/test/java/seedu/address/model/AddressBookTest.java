@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalStudents.ALICE;
 import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,9 +19,16 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.DueAssignment;
+import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.student.exceptions.DuplicateStudentException;
+import seedu.address.testutil.AssignmentBuilder;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookTest {
@@ -86,6 +94,112 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStudentList().remove(0));
     }
 
+    @Test
+    public void getAssignmentsDueBetween_assignmentsOfSeveralStudents_orderedByDueDate() {
+        Assignment essay = new AssignmentBuilder().withAssignmentName("Essay").withDueDate(new Date("20-01-2030"))
+                .build();
+        Assignment quiz = new AssignmentBuilder().withAssignmentName("Quiz").withDueDate(new Date("10-01-2030"))
+                .build();
+        addressBook.addStudent(new StudentBuilder(ALICE).withAssignment(essay).build());
+        addressBook.addStudent(new StudentBuilder().withAssignment(quiz).build());
+
+        List<DueAssignment> expected = List.of(new DueAssignment(new Name(StudentBuilder.DEFAULT_NAME), quiz),
+                new DueAssignment(ALICE.getName(), essay));
+        assertEquals(expected, addressBook.getAssignmentsDueBetween(LocalDate.of(2030, 1, 1),
+                LocalDate.of(2030, 1, 31)));
+        assertEquals(List.of(), addressBook.getAssignmentsDueBetween(LocalDate.of(2030, 1, 11),
+                LocalDate.of(2030, 1, 19)));
+    }
+
+    @Test
+    public void getOverdueAssignments_studentEditedAndRemoved_indexKeptInSync() {
+        Assignment essay = new AssignmentBuilder().withAssignmentName("Essay").withDueDate(new Date("20-01-2030"))
+                .build();
+        Student student = new StudentBuilder().withAssignment(essay).build();
+        addressBook.addStudent(student);
+        LocalDate dayAfterDueDate = LocalDate.of(2030, 1, 21);
+        assertEquals(List.of(new DueAssignment(student.getName(), essay)),
+                addressBook.getOverdueAssignments(dayAfterDueDate));
+
+        // renamed student
+        Student renamedStudent = new StudentBuilder(student).withName("Amy Tan").build();
+        addressBook.setStudent(student, renamedStudent);
+        assertEquals(List.of(new DueAssignment(renamedStudent.getName(), essay)),
+                addressBook.getOverdueAssignments(dayAfterDueDate));
+
+        // deleted assignment
+        addressBook.deleteAssignment(renamedStudent, essay.getAssignmentName());
+        assertEquals(List.of(), addressBook.getOverdueAssignments(dayAfterDueDate));
+
+        // removed student
+        Assignment quiz = new AssignmentBuilder().withAssignmentName("Quiz").withDueDate(new Date("10-01-2030"))
+                .build();
+        addressBook.setStudent(renamedStudent, renamedStudent.addAssignment(quiz));
+        assertEquals(List.of(new DueAssignment(renamedStudent.getName(), quiz)),
+                addressBook.getOverdueAssignments(dayAfterDueDate));
+        addressBook.removeStudent(renamedStudent);
+        assertEquals(List.of(), addressBook.getOverdueAssignments(dayAfterDueDate));
+    }
+
+    @Test
+    public void getLessonsOf_studentWithLessons_returnsOnlyTheirLessons() {
+        Lesson aliceMath = new LessonBuilder().withName("Alice Pauline").withTime("09:00").build();
+        Lesson aliceScience = new LessonBuilder().withName("Alice Pauline").withTime("11:00").build();
+        Lesson bobMath = new LessonBuilder().withName("Bob Choo").withTime("13:00").build();
+        addressBook.setLessons(Arrays.asList(aliceMath, bobMath));
+        addressBook.addLesson(aliceScience);
+
+        assertEquals(Arrays.asList(aliceMath, aliceScience), addressBook.getLessonsOf(new Name("alice pauline")));
+        assertEquals(Collections.emptyList(), addressBook.getLessonsOf(new Name("Carl Kurz")));
+    }
+
+    @Test
+    public void removeLessonsOf_studentWithLessons_removesOnlyTheirLessons() {
+        Lesson aliceMath = new LessonBuilder().withName("Alice Pauline").withTime("09:00").build();
+        Lesson aliceScience = new LessonBuilder().withName("Alice Pauline").withTime("11:00").build();
+        Lesson bobMath = new LessonBuilder().withName("Bob Choo").withTime("13:00").build();
+        addressBook.setLessons(Arrays.asList(aliceMath, bobMath, aliceScience));
+
+        addressBook.removeLessonsOf(new Name("Alice Pauline"));
+        assertEquals(List.of(bobMath), addressBook.getLessonList());
+        assertEquals(Collections.emptyList(), addressBook.getLessonsOf(new Name("Alice Pauline")));
+    }
+
+    @Test
+    public void renameLessonsOf_studentWithLessons_lessonsMovedToNewName() {
+        Lesson aliceMath = new LessonBuilder().withName("Alice Pauline").withTime("09:00").build();
+        Lesson bobMath = new LessonBuilder().withName("Bob Choo").withTime("13:00").build();
+        addressBook.setLessons(Arrays.asList(aliceMath, bobMath));
+
+        addressBook.renameLessonsOf(new Name("Alice Pauline"), new Name("Alice Tan"));
+        Lesson renamedAliceMath = new LessonBuilder(aliceMath).withName("Alice Tan").build();
+        assertEquals(Arrays.asList(renamedAliceMath, bobMath), addressBook.getLessonList());
+        assertEquals(List.of(renamedAliceMath), addressBook.getLessonsOf(new Name("Alice Tan")));
+        assertEquals(Collections.emptyList(), addressBook.getLessonsOf(new Name("Alice Pauline")));
+    }
+
+    @Test
+    public void renameLessonsOf_caseOnlyRename_lessonsRenamed() {
+        Lesson aliceMath = new LessonBuilder().withName("alice pauline").build();
+        addressBook.setLessons(List.of(aliceMath));
+
+        addressBook.renameLessonsOf(new Name("alice pauline"), new Name("Alice Pauline"));
+        assertEquals("Alice Pauline", addressBook.getLessonList().get(0).getStudentName().fullName);
+        assertEquals("Alice Pauline", addressBook.getLessonsOf(new Name("Alice Pauline")).get(0)
+                .getStudentName().fullName);
+    }
+
+    @Test
+    public void renameLessonsOf_renamedLessonIsDuplicate_throwsDuplicateLessonException() {
+        Lesson aliceMath = new LessonBuilder().withName("Alice Pauline").build();
+        Lesson bobMath = new LessonBuilder().withName("Bob Choo").build();
+        addressBook.setLessons(Arrays.asList(aliceMath, bobMath));
+
+        assertThrows(DuplicateLessonException.class, () ->
+                addressBook.renameLessonsOf(new Name("Alice Pauline"), new Name("Bob Choo")));
+        assertEquals(Arrays.asList(aliceMath, bobMath), addressBook.getLessonList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{students=" + addressBook.getStudentList()
@@ -12,12 +12,16 @@ import static seedu.address.testutil.TypicalStudents.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.LessonBuilder;
 
 public class ModelManagerTest {
 
@@ -89,6 +93,52 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasStudent(ALICE));
     }
 
+    @Test
+    public void getAddressBookVersion_dataModified_versionChanges() {
+        long initialVersion = modelManager.getAddressBookVersion();
+        modelManager.addStudent(ALICE);
+        long versionAfterAdd = modelManager.getAddressBookVersion();
+        assertFalse(initialVersion == versionAfterAdd);
+
+        modelManager.deleteStudent(ALICE);
+        assertFalse(versionAfterAdd == modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void getAddressBookVersion_onlyViewChanged_versionUnchanged() {
+        long initialVersion = modelManager.getAddressBookVersion();
+        modelManager.hasStudent(ALICE);
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        modelManager.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        assertEquals(initialVersion, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void isStudentView_emptyLists_followsLastListShown() {
+        assertTrue(modelManager.isStudentView());
+        assertEquals(modelManager.getFilteredStudentList(), modelManager.getFilteredCurrList());
+
+        modelManager.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+        assertFalse(modelManager.isStudentView());
+
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertTrue(modelManager.isStudentView());
+    }
+
+    @Test
+    public void renameLessonsOfStudent_lessonsFilteredByOldName_renamedLessonsShown() {
+        Lesson aliceMath = new LessonBuilder().withName("Alice Pauline").build();
+        modelManager.addLesson(aliceMath);
+        modelManager.updateFilteredLessonList(lesson -> lesson.getStudentName().equals(new Name("Alice Pauline")));
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+
+        modelManager.renameLessonsOfStudent(new Name("Alice Pauline"), new Name("Alice Tan"));
+        assertEquals(List.of(new LessonBuilder(aliceMath).withName("Alice Tan").build()),
+                modelManager.getFilteredLessonList());
+        // the list shown is not switched to the lessons
+        assertTrue(modelManager.isStudentView());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
@@ -0,0 +1,90 @@
+package seedu.address.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Name;
+import seedu.address.testutil.AssignmentBuilder;
+
+public class DueDateIndexTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BOB = new Name("Bob Choo");
+
+    private final Assignment essay = new AssignmentBuilder().withAssignmentName("Essay")
+            .withDueDate(new Date("10-01-2030")).build();
+    private final Assignment quiz = new AssignmentBuilder().withAssignmentName("Quiz")
+            .withDueDate(new Date("10-01-2030")).build();
+    private final Assignment project = new AssignmentBuilder().withAssignmentName("Project")
+            .withDueDate(new Date("20-01-2030")).withDoneStatus(true).build();
+
+    private final DueDateIndex dueDateIndex = new DueDateIndex();
+
+    @Test
+    public void getDueBetween_assignmentsOfSeveralStudents_orderedByDueDateThenName() {
+        dueDateIndex.add(ALICE, List.of(quiz, project));
+        dueDateIndex.add(BOB, List.of(essay));
+
+        List<DueAssignment> expected = List.of(new DueAssignment(BOB, essay), new DueAssignment(ALICE, quiz),
+                new DueAssignment(ALICE, project));
+        assertEquals(expected, dueDateIndex.getDueBetween(epochDay("10-01-2030"), epochDay("20-01-2030")));
+    }
+
+    @Test
+    public void getDueBetween_rangeExcludesSomeDays_onlyAssignmentsInRangeReturned() {
+        dueDateIndex.add(ALICE, List.of(quiz, project));
+
+        assertEquals(List.of(new DueAssignment(ALICE, quiz)),
+                dueDateIndex.getDueBetween(epochDay("10-01-2030"), epochDay("19-01-2030")));
+        assertEquals(List.of(), dueDateIndex.getDueBetween(epochDay("11-01-2030"), epochDay("19-01-2030")));
+        assertEquals(List.of(), dueDateIndex.getDueBetween(epochDay("20-01-2030"), epochDay("10-01-2030")));
+    }
+
+    @Test
+    public void getPendingBefore_doneAssignmentsSkipped() {
+        dueDateIndex.add(ALICE, List.of(quiz, project));
+
+        assertEquals(List.of(new DueAssignment(ALICE, quiz)), dueDateIndex.getPendingBefore(epochDay("21-01-2030")));
+        assertEquals(List.of(), dueDateIndex.getPendingBefore(epochDay("10-01-2030")));
+    }
+
+    @Test
+    public void remove_studentIndexed_onlyTheirAssignmentsRemoved() {
+        dueDateIndex.add(ALICE, List.of(quiz));
+        dueDateIndex.add(BOB, List.of(essay));
+
+        dueDateIndex.remove(new Name("alice pauline"));
+        assertEquals(List.of(new DueAssignment(BOB, essay)),
+                dueDateIndex.getDueBetween(epochDay("10-01-2030"), epochDay("20-01-2030")));
+    }
+
+    @Test
+    public void remove_assignmentChangedAfterIndexing_oldPositionRemoved() {
+        Assignment homework = new AssignmentBuilder().withDueDate(new Date("15-01-2030")).build();
+        dueDateIndex.add(ALICE, List.of(homework));
+
+        // assignments are marked in place, so the index has to rely on what it saw when indexing
+        homework.setDone();
+        dueDateIndex.remove(ALICE);
+        dueDateIndex.add(ALICE, List.of(homework));
+
+        assertEquals(List.of(), dueDateIndex.getPendingBefore(epochDay("16-01-2030")));
+        assertEquals(List.of(new DueAssignment(ALICE, homework)),
+                dueDateIndex.getDueBetween(epochDay("15-01-2030"), epochDay("15-01-2030")));
+    }
+
+    @Test
+    public void clear_studentsIndexed_indexEmptied() {
+        dueDateIndex.add(ALICE, List.of(quiz, project));
+        dueDateIndex.clear();
+        assertEquals(List.of(), dueDateIndex.getDueBetween(epochDay("10-01-2030"), epochDay("20-01-2030")));
+    }
+
+    private static long epochDay(String date) {
+        return new Date(date).toEpochDay();
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +101,18 @@ public class UniqueAssignmentListTest {
         assertEquals(expectedUniqueAssignmentList, uniqueAssignmentList);
     }
 
+    @Test
+    public void setAssignment_editedAssignmentHasDifferentIdentity_oldNameReleased() {
+        Assignment assignment = new AssignmentBuilder().build();
+        uniqueAssignmentList.add(assignment);
+        Assignment differentAssignment = new AssignmentBuilder().withAssignmentName("Different Assignment").build();
+        uniqueAssignmentList.setAssignment(assignment, differentAssignment);
+
+        assertEquals(null, uniqueAssignmentList.getAssignment(assignment.getAssignmentName()));
+        assertEquals(differentAssignment, uniqueAssignmentList.getAssignment("Different Assignment"));
+        assertDoesNotThrow(() -> uniqueAssignmentList.add(assignment));
+    }
+
     @Test
     public void setAssignment_editedAssignmentHasNonUniqueIdentity_throwsDuplicateAssignmentException() {
         Assignment assignment = new AssignmentBuilder().build();
@@ -149,6 +162,28 @@ public class UniqueAssignmentListTest {
         assertFalse(uniqueAssignmentList.contains(assignment));
     }
 
+    @Test
+    public void deleteAssignment_middleAssignment_orderOfOthersKept() {
+        Assignment first = new AssignmentBuilder().withAssignmentName("First").build();
+        Assignment second = new AssignmentBuilder().withAssignmentName("Second").build();
+        Assignment third = new AssignmentBuilder().withAssignmentName("Third").build();
+        uniqueAssignmentList.add(first);
+        uniqueAssignmentList.add(second);
+        uniqueAssignmentList.add(third);
+
+        uniqueAssignmentList.deleteAssignment("Second");
+        assertEquals(List.of(first, third), uniqueAssignmentList.asUnmodifiableObservableList());
+        assertFalse(uniqueAssignmentList.contains(second));
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniqueAssignmentList.add(new AssignmentBuilder().build());
+        Iterator<Assignment> iterator = uniqueAssignmentList.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
     @Test
     public void getAssignment_existingAssignment_returnsAssignment() {
         Assignment assignment = new AssignmentBuilder().build();
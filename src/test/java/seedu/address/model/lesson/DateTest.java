@@ -2,6 +2,7 @@ package seedu.address.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
@@ -35,6 +36,42 @@ class DateTest {
         assertEquals("10 Dec 2027", new Date("10-12-2027").toString()); //no change in the assignmentName
     }
 
+    @Test
+    void toEpochDay() {
+        assertEquals(LocalDate.of(2027, 12, 10).toEpochDay(), new Date("10-12-2027").toEpochDay());
+        assertEquals(new Date("05-01-2027").toEpochDay(), new Date("5-1-2027").toEpochDay());
+    }
+
+    @Test
+    void hashCode_sameDateWrittenDifferently_consistentWithEquals() {
+        Date paddedDate = new Date("05-01-2027");
+        Date unpaddedDate = new Date("5-1-2027");
+        assertEquals(paddedDate, unpaddedDate);
+        assertEquals(paddedDate.hashCode(), unpaddedDate.hashCode());
+    }
+
+    @Test
+    void ofEpochDay() {
+        long epochDay = LocalDate.of(2027, 1, 5).toEpochDay();
+        Date date = Date.ofEpochDay(epochDay);
+        assertEquals(new Date("5-1-2027"), date);
+        assertEquals("05-01-2027", date.date);
+        assertEquals("05 Jan 2027", date.toString());
+
+        // past dates and dates out of range are invalid
+        assertFalse(Date.isValidEpochDay(LocalDate.now().toEpochDay()));
+        assertFalse(Date.isValidEpochDay(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> Date.ofEpochDay(LocalDate.now().toEpochDay()));
+    }
+
+    @Test
+    void compareTo() {
+        Date date = new Date("05-10-2026");
+        assertTrue(date.compareTo(new Date("06-10-2026")) < 0);
+        assertTrue(date.compareTo(new Date("04-10-2026")) > 0);
+        assertEquals(0, date.compareTo(new Date("5-10-2026")));
+    }
+
     @Test
     void testEquals() {
         Date date = new Date("05-10-2026");
@@ -2,6 +2,7 @@ package seedu.address.model.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,40 @@ class TimeTest {
         assertEquals("10:15", new Time("10:15").toString()); //no change in the assignmentName
     }
 
+    @Test
+    void toMinuteOfDay() {
+        assertEquals(0, new Time("0:00").toMinuteOfDay());
+        assertEquals(9 * 60 + 5, new Time("9:5").toMinuteOfDay());
+        assertEquals(23 * 60 + 59, new Time("23:59").toMinuteOfDay());
+    }
+
+    @Test
+    void hashCode_sameTimeWrittenDifferently_consistentWithEquals() {
+        Time paddedTime = new Time("09:05");
+        Time unpaddedTime = new Time("9:5");
+        assertEquals(paddedTime, unpaddedTime);
+        assertEquals(paddedTime.hashCode(), unpaddedTime.hashCode());
+    }
+
+    @Test
+    void ofMinuteOfDay() {
+        assertEquals(new Time("9:05"), Time.ofMinuteOfDay(9 * 60 + 5));
+        assertEquals("09:05", Time.ofMinuteOfDay(9 * 60 + 5).toString());
+        assertEquals("23:59", Time.ofMinuteOfDay(24 * 60 - 1).toString());
+
+        assertFalse(Time.isValidMinuteOfDay(-1));
+        assertFalse(Time.isValidMinuteOfDay(24 * 60));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofMinuteOfDay(24 * 60));
+    }
+
+    @Test
+    void compareTo() {
+        Time time = new Time("16:00");
+        assertTrue(time.compareTo(new Time("16:01")) < 0);
+        assertTrue(time.compareTo(new Time("9:30")) > 0);
+        assertEquals(0, time.compareTo(new Time("16:0")));
+    }
+
     @Test
     void testEquals() {
         Time time = new Time("16:00");
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalLessons.ALICE;
+import static seedu.address.testutil.TypicalLessons.BENNY;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.datetimeutil.Date;
 import seedu.address.model.lesson.exceptions.DuplicateLessonException;
 import seedu.address.model.lesson.exceptions.LessonNotFoundException;
 import seedu.address.testutil.LessonBuilder;
@@ -72,6 +74,45 @@ public class UniqueLessonListTest {
         assertFalse(uniqueLessonList.clashes(nonConflicting));
     }
 
+    @Test
+    public void clashes_timeWrittenWithoutLeadingZero_returnsTrue() {
+        uniqueLessonList.add(new LessonBuilder(ALICE).withTime("09:05").build());
+        Lesson conflicting = new LessonBuilder(BENNY).withDate(ALICE.getDate().date).withTime("9:5").build();
+        assertTrue(uniqueLessonList.clashes(conflicting));
+    }
+
+    @Test
+    public void clashes_clashingLessonRemoved_returnsFalse() {
+        uniqueLessonList.add(ALICE);
+        uniqueLessonList.remove(ALICE);
+        assertFalse(uniqueLessonList.clashes(ALICE));
+    }
+
+    @Test
+    public void clashes_clashingLessonEdited_returnsFalse() {
+        uniqueLessonList.add(ALICE);
+        Lesson editedAlice = new LessonBuilder(ALICE).withTime("16:00").build();
+        uniqueLessonList.setLesson(ALICE, editedAlice);
+        assertFalse(uniqueLessonList.clashes(ALICE));
+        assertTrue(uniqueLessonList.clashes(editedAlice));
+    }
+
+    @Test
+    public void getLessonsOn_lessonsOnSeveralDates_returnsLessonsOnDateOrderedByTime() {
+        Lesson lateLesson = new LessonBuilder(ALICE).withTime("18:00").build();
+        Lesson earlyLesson = new LessonBuilder(ALICE).withTime("08:00").build();
+        uniqueLessonList.add(lateLesson);
+        uniqueLessonList.add(BENNY);
+        uniqueLessonList.add(earlyLesson);
+        assertEquals(List.of(earlyLesson, lateLesson), uniqueLessonList.getLessonsOn(ALICE.getDate()));
+    }
+
+    @Test
+    public void getLessonsOn_noLessonsOnDate_returnsEmptyList() {
+        uniqueLessonList.add(ALICE);
+        assertTrue(uniqueLessonList.getLessonsOn(new Date("01-01-2099")).isEmpty());
+    }
+
     @Test
     public void remove_existingLesson_success() {
         uniqueLessonList.add(ALICE);
@@ -85,6 +126,38 @@ public class UniqueLessonListTest {
         assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.remove(notInList));
     }
 
+    @Test
+    public void removeAll_existingLessons_removesOnlyThoseLessons() {
+        uniqueLessonList.setLessons(List.of(ALICE, BENNY));
+        uniqueLessonList.removeAll(List.of(ALICE));
+        assertEquals(List.of(BENNY), uniqueLessonList.asUnmodifiableObservableList());
+        assertFalse(uniqueLessonList.clashes(ALICE));
+    }
+
+    @Test
+    public void removeAll_lessonNotInList_throwsLessonNotFoundException() {
+        uniqueLessonList.add(ALICE);
+        assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.removeAll(List.of(ALICE, BENNY)));
+        assertTrue(uniqueLessonList.contains(ALICE));
+    }
+
+    @Test
+    public void setLessonsBatch_editedLessons_replacedInPlace() {
+        Lesson editedAlice = new LessonBuilder(ALICE).withName("Alice Tan").build();
+        uniqueLessonList.setLessons(List.of(ALICE, BENNY));
+        uniqueLessonList.setLessons(List.of(ALICE), List.of(editedAlice));
+        assertEquals(List.of(editedAlice, BENNY), uniqueLessonList.asUnmodifiableObservableList());
+        assertFalse(uniqueLessonList.contains(ALICE));
+    }
+
+    @Test
+    public void setLessonsBatch_editedLessonSameAsUntouchedLesson_throwsDuplicateLessonException() {
+        uniqueLessonList.setLessons(List.of(ALICE, BENNY));
+        assertThrows(DuplicateLessonException.class, () ->
+                uniqueLessonList.setLessons(List.of(ALICE), List.of(BENNY)));
+        assertEquals(List.of(ALICE, BENNY), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setLessons_withDuplicateLessons_throwsDuplicateLessonException() {
         Lesson lesson1 = new LessonBuilder().build();
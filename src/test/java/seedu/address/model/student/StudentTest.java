@@ -140,6 +140,17 @@ public class StudentTest {
         assertFalse(student.getAssignments().contains(assignment));
     }
 
+    @Test
+    public void deepCopy_assignmentMarkedAfterCopy_copyUnchanged() throws Exception {
+        Assignment assignment = new AssignmentBuilder().build();
+        Student student = new StudentBuilder().withAssignment(assignment).build();
+        Student copy = student.deepCopy();
+        student.markAssignment(assignment.getAssignmentName());
+
+        assertEquals(student, copy);
+        assertFalse(copy.getAssignments().getAssignment(assignment.getAssignmentName()).isDone());
+    }
+
     @Test
     public void clearAssignments_allAssignmentsRemoved() {
         Assignment assignment = new AssignmentBuilder().build();
@@ -50,6 +50,20 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_studentWithSameEmailDifferentCase_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student aliceWithUpperCaseEmail = new StudentBuilder(BOB).withEmail("ALICE@example.com").build();
+        assertTrue(uniqueStudentList.contains(aliceWithUpperCaseEmail));
+    }
+
+    @Test
+    public void contains_studentRemoved_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -113,6 +127,44 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentSharesPhoneWithAnotherStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_oldIdentityReleased() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void containsOtherThan_onlyTargetHasIdentity_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniqueStudentList.containsOtherThan(ALICE, editedAlice));
+    }
+
+    @Test
+    public void containsOtherThan_anotherStudentHasIdentity_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertTrue(uniqueStudentList.containsOtherThan(ALICE, editedAlice));
+    }
+
+    @Test
+    public void containsOtherThan_targetNotInList_throwsStudentNotFoundException() {
+        uniqueStudentList.add(BOB);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.containsOtherThan(ALICE, ALICE));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -131,6 +183,25 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_studentBeforeOthers_laterStudentsStillReplaceable() {
+        Student carl = new StudentBuilder().withName("Carl Kurz").withPhone("95352563")
+                .withEmail("heinz@example.com").build();
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BOB, carl));
+        uniqueStudentList.remove(ALICE);
+
+        Student editedCarl = new StudentBuilder(carl).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueStudentList.setStudent(carl, editedCarl);
+        uniqueStudentList.remove(BOB);
+        uniqueStudentList.add(ALICE);
+
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.setStudents(Arrays.asList(editedCarl, ALICE));
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        uniqueStudentList.remove(ALICE);
+        assertEquals(List.of(editedCarl), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -166,6 +237,35 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithSharedPhone_throwsDuplicateStudentException() {
+        Student bobWithAlicePhone = new StudentBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Student> listWithSharedPhone = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithSharedPhone));
+    }
+
+    @Test
+    public void setStudents_listWithDuplicateStudents_ownListUnchanged() {
+        uniqueStudentList.add(BOB);
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void find_studentWithSameName_returnsStoredStudent() {
+        uniqueStudentList.add(ALICE);
+        Student aliceLookup = new StudentBuilder(BOB).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertEquals(ALICE, uniqueStudentList.find(aliceLookup).get());
+    }
+
+    @Test
+    public void find_studentNotInList_returnsEmpty() {
+        uniqueStudentList.add(ALICE);
+        assertFalse(uniqueStudentList.find(BOB).isPresent());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final int STUDENT_COUNT = 2000; // more than every combination of first and last name
+
+    @Test
+    public void generate_invalidCounts_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(1, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(1, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.generate(SyntheticDataGenerator.MAX_STUDENT_COUNT + 1, 0, 0));
+    }
+
+    @Test
+    public void generate_sameSeed_sameData() {
+        ReadOnlyAddressBook first = new SyntheticDataGenerator(42).generate(50, 80, 2);
+        ReadOnlyAddressBook second = new SyntheticDataGenerator(42).generate(50, 80, 2);
+        assertEquals(new AddressBook(first), new AddressBook(second));
+
+        // records do not depend on how many others are generated
+        assertEquals(first.getStudentList().get(10), new SyntheticDataGenerator(42).generate(11, 0, 2)
+                .getStudentList().get(10));
+    }
+
+    @Test
+    public void generate_differentSeed_differentData() {
+        assertNotEquals(new AddressBook(new SyntheticDataGenerator(1).generate(50, 50, 2)),
+                new AddressBook(new SyntheticDataGenerator(2).generate(50, 50, 2)));
+    }
+
+    @Test
+    public void generate_manyRecords_validAddressBook() {
+        ReadOnlyAddressBook generated = new SyntheticDataGenerator(7).generate(STUDENT_COUNT, 3 * STUDENT_COUNT, 4);
+        assertEquals(STUDENT_COUNT, generated.getStudentList().size());
+        assertEquals(3 * STUDENT_COUNT, generated.getLessonList().size());
+
+        // throws if any students are duplicates or any lessons clash
+        AddressBook addressBook = new AddressBook(generated);
+
+        Set<Name> names = new HashSet<>();
+        for (Student student : addressBook.getStudentList()) {
+            names.add(student.getName());
+            assertEquals(4, student.getAssignments().asUnmodifiableObservableList().size());
+            assertFalse(student.getSubjects().isEmpty());
+        }
+        for (Lesson lesson : addressBook.getLessonList()) {
+            assertTrue(names.contains(lesson.getStudentName()));
+            Student student = addressBook.getStudentList().stream()
+                    .filter(s -> s.getName().equals(lesson.getStudentName())).findFirst().get();
+            assertTrue(student.getSubjects().contains(lesson.getSubject()));
+        }
+    }
+
+    @Test
+    public void generate_studentList_unmodifiable() {
+        ReadOnlyAddressBook generated = new SyntheticDataGenerator(1).generate(5, 5, 1);
+        assertThrows(UnsupportedOperationException.class, () -> generated.getStudentList().remove(0));
+    }
+}
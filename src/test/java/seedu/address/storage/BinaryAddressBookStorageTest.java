@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TYPICAL_STUDENTS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalStudentsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.bin");
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "TutorTrack.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "TutorTrack.json")));
+        assertEquals(Paths.get("data", "TutorTrack.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "TutorTrack")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(TYPICAL_STUDENTS_FILE)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getRichAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // fields that AddressBook#equals does not compare
+        Student readBackStudent = readBack.getStudentList().get(readBack.getStudentList().size() - 1);
+        Assignment essay = readBackStudent.getAssignments().getAssignment("Essay");
+        assertEquals(new Date("10-01-2030"), essay.getDueDate());
+        assertTrue(essay.isDone());
+        assertFalse(readBackStudent.getAssignments().getAssignment("Quiz").isDone());
+
+        // overwrite the existing file and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedNames_storedOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(ALICE);
+        for (int hour = 8; hour < 18; hour++) {
+            addressBook.addLesson(new LessonBuilder().withName(ALICE.getName().fullName)
+                    .withDate("01-01-2030").withTime(hour + ":00").build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        byte[] file = Files.readAllBytes(filePath);
+        byte[] name = ALICE.getName().fullName.getBytes();
+        int occurrences = 0;
+        for (int i = 0; i + name.length <= file.length; i++) {
+            if (Arrays.equals(file, i, i + name.length, name, 0, name.length)) {
+                occurrences++;
+            }
+        }
+        assertEquals(1, occurrences);
+    }
+
+    @Test
+    public void convertFromAndToJson_sameAddressBook() throws Exception {
+        AddressBook original = getRichAddressBook();
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        binaryStorage.saveAddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        Path convertedBackPath = testFolder.resolve("ConvertedBack.json");
+        new JsonAddressBookStorage(convertedBackPath).saveAddressBook(binaryStorage.readAddressBook().get());
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedBackPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_wrongVersion_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] file = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(file).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, file);
+
+        assertDataLoadingExceptionWithMessage(String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] file = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(file, file.length - 3));
+
+        assertDataLoadingExceptionWithMessage(BinaryAddressBookStorage.MESSAGE_CORRUPTED);
+    }
+
+    @Test
+    public void readAddressBook_invalidName_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] file = Files.readAllBytes(filePath);
+        // the first string in the table is the first student's name, right after the header and the table size
+        file[3 * Integer.BYTES + Integer.BYTES] = '@';
+        Files.write(filePath, file);
+
+        assertDataLoadingExceptionWithMessage(Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    private void assertDataLoadingExceptionWithMessage(String message) {
+        DataLoadingException e = org.junit.jupiter.api.Assertions.assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertTrue(e.getCause() instanceof IllegalValueException);
+        assertEquals(message, e.getCause().getMessage());
+    }
+
+    private static AddressBook getRichAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Assignment essay = new Assignment("Essay", new Date("10-01-2030"), true);
+        addressBook.addStudent(new StudentBuilder().withName("Zara Lim").withPhone("81234567")
+                .withEmail("zara@example.com").withSubjects("CS2109S", "MA1522")
+                .withAssignment(essay).withAssignment(new Assignment("Quiz", new Date("11-01-2030"))).build());
+        addressBook.addLesson(new LessonBuilder().withName("Zara Lim").withSubject("CS2109S")
+                .withDate("10-01-2030").withTime("9:05").build());
+        addressBook.addLesson(new LessonBuilder().withName(ALICE.getName().fullName).withSubject("CS2109S")
+                .withDate("10-01-2030").withTime("11:00").build());
+        return addressBook;
+    }
+}
@@ -0,0 +1,379 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalLessons;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void getJournalFilePath_nextToSnapshot() {
+        assertEquals(testFolder.resolve("TempAddressBook.json.journal"), journalPath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() throws Exception {
+        FileUtil.writeToFile(filePath, "not json");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_snapshotWrittenWithoutJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterJournaledChanges_snapshotWrittenAndJournalRemoved() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        assertTrue(Files.exists(journalPath));
+
+        storage.saveAddressBook(model.getAddressBook());
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterRead_onlyChangesJournaled() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+
+        // snapshot untouched, journal holds a header and the one added student
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        List<String> journal = Files.readAllLines(journalPath, UTF_8);
+        assertEquals(2, journal.size());
+        assertTrue(journal.get(1).contains(HOON.getName().fullName));
+        assertFalse(journal.get(1).contains(ALICE.getName().fullName));
+
+        // saving without changes appends nothing
+        saveChanges(storage, model);
+        assertEquals(journal, Files.readAllLines(journalPath, UTF_8));
+
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_nothingRead_snapshotWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addStudent(HOON);
+
+        // the changes alone cannot be saved, as there is no snapshot for them to apply to
+        saveChanges(storage, model);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_withoutAddressBookAfterRead_changesJournaled() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        assertFalse(storage.isAddressBookNeededToSaveChanges());
+
+        model.addStudent(HOON);
+        storage.saveAddressBookChanges(null, model.takeAddressBookChanges());
+
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_withoutAddressBookNothingRead_throwsIoException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addStudent(HOON);
+
+        assertTrue(storage.isAddressBookNeededToSaveChanges());
+        assertThrows(IOException.class, () -> storage.saveAddressBookChanges(null,
+                model.takeAddressBookChanges()));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_mixedChanges_replayedInOrder() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addLesson(TypicalLessons.ALICE);
+        addressBook.addLesson(TypicalLessons.BENNY);
+        addressBook.addLesson(new LessonBuilder(TypicalLessons.ALICE).withTime("18:00").build());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, addressBook);
+
+        // edit a student in place, renaming their lessons
+        Student editedBenson = new StudentBuilder(BENSON).withName("Benson Changed").build();
+        model.setStudent(BENSON, editedBenson);
+        model.renameLessonsOfStudent(BENSON.getName(), editedBenson.getName());
+        saveChanges(storage, model);
+
+        // remove a student along with their lessons, which are not next to each other
+        model.deleteStudent(ALICE);
+        model.deleteLessonsOfStudent(ALICE.getName());
+        saveChanges(storage, model);
+
+        // add at the end, then add and remove in the same save
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        model.deleteStudent(editedBenson);
+        model.addStudent(IDA);
+        model.addLesson(new LessonBuilder().withName(IDA.getName().fullName).withDate("01-01-2030").build());
+        saveChanges(storage, model);
+
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_assignmentMarked_changeJournaled() throws Exception {
+        Student student = new StudentBuilder().withAssignment(new Assignment("Essay", new Date("10-01-2030")))
+                .build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(student);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, addressBook);
+
+        Student storedStudent = model.getFilteredStudentList().get(0);
+        model.setStudent(storedStudent, storedStudent.markAssignment("Essay"));
+        saveChanges(storage, model);
+
+        assertTrue(Files.exists(journalPath));
+        ReadOnlyAddressBook readBack = readBack();
+        assertTrue(readBack.getStudentList().get(0).getAssignments().getAssignment("Essay").isDone());
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalPastThreshold_compactedInBackground() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        // saved while the compaction may still be running, in which case it goes into the journal of the
+        // new snapshot
+        model.addStudent(IDA);
+        saveChanges(storage, model);
+        storage.awaitCompaction();
+
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(snapshot.getStudentList().contains(HOON));
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalPastThresholdWithoutAddressBook_compactedOnNextSave() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+
+        model.addStudent(HOON);
+        storage.saveAddressBookChanges(null, model.takeAddressBookChanges());
+        assertTrue(storage.isAddressBookNeededToSaveChanges());
+        model.addStudent(IDA);
+        saveChanges(storage, model);
+        storage.awaitCompaction();
+
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertTrue(snapshot.getStudentList().contains(IDA));
+        assertEquals(model.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void saveAddressBookChanges_compacted_previousSnapshotAndJournalKept() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        storage.awaitCompaction();
+        AddressBook compacted = new AddressBook(model.getAddressBook());
+
+        Path backupPath = FileUtil.getBackupPath(filePath);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(backupPath)));
+        assertEquals(compacted, new AddressBook(new JournaledAddressBookStorage(filePath)
+                .readAddressBook(backupPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+
+        // as if the application stopped after writing a new snapshot but before removing the journal
+        FileUtil.writeAtomicallyKeepingBackup(filePath, out ->
+                StreamingJsonAddressBookStorage.writeAddressBook(model.getAddressBook(), out));
+
+        assertEquals(model.getAddressBook(), readBack());
+        assertTrue(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_stoppedDuringCompaction_nextJournalReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        storage.awaitCompaction();
+        model.addStudent(IDA);
+        saveChanges(storage, model);
+        storage.awaitCompaction();
+
+        // as if the application stopped after moving the new snapshot in place but before its journal
+        Path nextJournalPath = journalPath.resolveSibling(journalPath.getFileName()
+                + JournaledAddressBookStorage.NEXT_JOURNAL_FILE_SUFFIX);
+        Files.move(journalPath, nextJournalPath);
+        Files.copy(JournaledAddressBookStorage.getJournalFilePath(FileUtil.getBackupPath(filePath)), journalPath);
+
+        assertEquals(model.getAddressBook(), readBack());
+        assertFalse(Files.exists(nextJournalPath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedOutsideApp_journalSetAside() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        ModelManager model = readIntoModel(storage, original);
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        List<String> journal = Files.readAllLines(journalPath, UTF_8);
+
+        AddressBook handEdited = new AddressBook(original);
+        handEdited.removeStudent(ALICE);
+        FileUtil.writeAtomically(filePath, out -> StreamingJsonAddressBookStorage.writeAddressBook(handEdited, out));
+
+        assertEquals(handEdited, readBack());
+        assertFalse(Files.exists(journalPath));
+        assertEquals(journal, Files.readAllLines(
+                JournaledAddressBookStorage.getUnappliedJournalFilePath(filePath), UTF_8));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDiscarded() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+        long journalSize = Files.size(journalPath);
+
+        Files.write(journalPath, "{\"from\":0,\"remo".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = new JournaledAddressBookStorage(filePath);
+        ModelManager restartedModel = new ModelManager(restartedStorage.readAddressBook().get(), new UserPrefs());
+        assertEquals(model.getAddressBook(), restartedModel.getAddressBook());
+        assertEquals(journalSize, Files.size(journalPath));
+
+        // later entries are appended after the last complete one
+        restartedModel.addStudent(IDA);
+        saveChanges(restartedStorage, restartedModel);
+        assertEquals(restartedModel.getAddressBook(), readBack());
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfRange_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = readIntoModel(storage, getTypicalAddressBook());
+        model.addStudent(HOON);
+        saveChanges(storage, model);
+
+        Files.write(journalPath, "{\"from\":100,\"removed\":1,\"students\":[]}\n".getBytes(UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void saveAddressBookChanges_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath)
+                .saveAddressBookChanges(new AddressBook(), null));
+    }
+
+    /**
+     * Saves {@code addressBook} with {@code storage}, reads it back and returns a model holding what was read.
+     */
+    private ModelManager readIntoModel(JournaledAddressBookStorage storage, ReadOnlyAddressBook addressBook)
+            throws Exception {
+        storage.saveAddressBook(addressBook);
+        return new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+    }
+
+    private static void saveChanges(JournaledAddressBookStorage storage, ModelManager model) throws IOException {
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -2,15 +2,26 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.CARL;
+import static seedu.address.testutil.TypicalStudents.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.StudentBuilder;
+import seedu.address.testutil.TypicalLessons;
 import seedu.address.testutil.TypicalStudents;
 
 public class JsonSerializableAddressBookTest {
@@ -44,8 +55,42 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicateStudents_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT_RECORD, 2, "Alice Pauline", 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_severalDuplicates_allReported() {
+        // BENSON shares ALICE's phone, and the last student shares CARL's email in a different case
+        List<JsonAdaptedStudent> students = Stream.of(ALICE,
+                new StudentBuilder(BENSON).withPhone(ALICE.getPhone().value).build(), CARL,
+                new StudentBuilder(DANIEL).withEmail(CARL.getEmail().value.toUpperCase()).build())
+                .map(JsonAdaptedStudent::new).collect(Collectors.toList());
+        Lesson lesson = new LessonBuilder().withName(ALICE.getName().fullName).build();
+        List<JsonAdaptedLesson> lessons = Stream.of(lesson, TypicalLessons.BENNY, lesson)
+                .map(JsonAdaptedLesson::new).collect(Collectors.toList());
+
+        String expectedMessage = String.join("\n",
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT_RECORD, 2, BENSON.getName(), 1),
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT_RECORD, 4, DANIEL.getName(), 3),
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON_RECORD, 3, ALICE.getName(), 1));
+        assertThrows(IllegalValueException.class, expectedMessage,
+                new JsonSerializableAddressBook(students, lessons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_studentsAndLessons_keptInOrder() throws Exception {
+        AddressBook original = TypicalStudents.getTypicalAddressBook();
+        original.addLesson(TypicalLessons.BENNY);
+        original.addLesson(TypicalLessons.ALICE);
+
+        AddressBook converted = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, converted);
+        assertEquals(original.getLessonList(), converted.getLessonList());
+        assertEquals(original.getStudentList(), converted.getStudentList());
     }
 
 }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -64,6 +65,13 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_binaryFormatChosen_successfullyRead() throws DataLoadingException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setAddressBookFormat(AddressBookFormat.BINARY);
+        assertEquals(expected, readUserPrefs("BinaryFormatUserPref.json").get());
+    }
+
     @Test
     public void readUserPrefs_valuesMissingFromFile_defaultValuesUsed() throws DataLoadingException {
         UserPrefs actual = readUserPrefs("EmptyUserPrefs.json").get();
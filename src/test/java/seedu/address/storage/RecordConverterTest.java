@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class RecordConverterTest {
+
+    private static final int RECORD_COUNT = 20 * RecordConverter.CHUNK_SIZE + 7;
+
+    @Test
+    public void of() {
+        assertSame(RecordConverter.PARALLEL, RecordConverter.of(true));
+        assertSame(RecordConverter.SEQUENTIAL, RecordConverter.of(false));
+        assertTrue(RecordConverter.PARALLEL.isParallel());
+        assertFalse(RecordConverter.SEQUENTIAL.isParallel());
+    }
+
+    @Test
+    public void convertAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> RecordConverter.PARALLEL.convertAll(null, record -> record));
+        assertThrows(NullPointerException.class, () -> RecordConverter.PARALLEL.convertAll(List.of(), null));
+    }
+
+    @Test
+    public void convertAll_manyRecords_sameOrderAsSequential() throws Exception {
+        List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+
+        List<String> parallel = RecordConverter.PARALLEL.convertAll(records, String::valueOf);
+        assertEquals(RecordConverter.SEQUENTIAL.convertAll(records, String::valueOf), parallel);
+        assertEquals(String.valueOf(RECORD_COUNT - 1), parallel.get(RECORD_COUNT - 1));
+    }
+
+    @Test
+    public void convertAll_emptyList_emptyResult() throws Exception {
+        assertTrue(RecordConverter.PARALLEL.convertAll(new ArrayList<Integer>(), String::valueOf).isEmpty());
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_firstInvalidRecordReported() {
+        // invalid records in different chunks, the last of which is the quickest to reach
+        List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+        RecordConverter.Conversion<Integer, Integer> conversion = record -> {
+            if (record == 3 * RecordConverter.CHUNK_SIZE + 1 || record == RecordConverter.CHUNK_SIZE * 12
+                    || record == RECORD_COUNT - 1) {
+                throw new IllegalValueException("record " + record);
+            }
+            return record;
+        };
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThrows(IllegalValueException.class, "record " + (3 * RecordConverter.CHUNK_SIZE + 1), () ->
+                    RecordConverter.PARALLEL.convertAll(records, conversion));
+        }
+        assertThrows(IllegalValueException.class, "record " + (3 * RecordConverter.CHUNK_SIZE + 1), () ->
+                RecordConverter.SEQUENTIAL.convertAll(records, conversion));
+    }
+
+    @Test
+    public void toModelType_parallel_sameAddressBookAsSequential() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            original.addStudent(new StudentBuilder().withName("Student " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("student" + i + "@example.com").build());
+        }
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(original);
+
+        AddressBook parallel = serializable.toModelType(RecordConverter.PARALLEL);
+        assertEquals(original, parallel);
+        assertEquals(serializable.toModelType(RecordConverter.SEQUENTIAL), parallel);
+    }
+
+    @Test
+    public void toModelType_parallelWithInvalidStudent_sameErrorAsSequential() {
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Student student = new StudentBuilder().withName("Student " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("student" + i + "@example.com").build();
+            students.add(new JsonAdaptedStudent(student));
+        }
+        students.set(RECORD_COUNT / 2, new JsonAdaptedStudent("R@chel", "81234567", "Block 1", "rachel@example.com",
+                List.of(), List.of()));
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(students, List.of());
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                serializable.toModelType(RecordConverter.PARALLEL));
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.datetimeutil.Time;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.subject.Subject;
+
+public class StreamingJsonAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path TYPICAL_STUDENTS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalStudentsAddressBook.json");
+    private static final Path DUPLICATE_STUDENT_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "duplicateStudentAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> readAddressBook(null));
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws Exception {
+        return new StreamingJsonAddressBookStorage(Paths.get(filePath))
+                .readAddressBook(addToTestDataPathIfNotNull(filePath));
+    }
+
+    private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
+        return prefsFileInTestDataFolder != null
+                ? TEST_DATA_FOLDER.resolve(prefsFileInTestDataFolder)
+                : null;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(readAddressBook("NonExistentFile.json").isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonFormatAddressBook.json"));
+    }
+
+    @Test
+    public void read_emptyFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("Empty.json");
+        FileUtil.createFile(filePath);
+        assertThrows(DataLoadingException.class, () -> new StreamingJsonAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void read_studentsNotAList_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("NotAList.json");
+        FileUtil.writeToFile(filePath, "{ \"students\": {} }");
+        assertThrows(DataLoadingException.class, () -> new StreamingJsonAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidStudentAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("invalidStudentAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_invalidAndValidStudentAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidStudentAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_duplicateStudents_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> new StreamingJsonAddressBookStorage(DUPLICATE_STUDENT_FILE)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_typicalStudentsFile_success() throws Exception {
+        ReadOnlyAddressBook readBack = new StreamingJsonAddressBookStorage(TYPICAL_STUDENTS_FILE)
+                .readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_sameFormatAsJsonAddressBookStorage() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addLesson(new Lesson(new Subject("CS2109S"), ALICE.getName(), new Date("10-01-2030"),
+                new Time("10:00")));
+
+        new StreamingJsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        StreamingJsonAddressBookStorage storage = new StreamingJsonAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addStudent(IDA);
+        storage.saveAddressBook(original); // file path not specified
+        readBack = storage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_parallelLoadingSeveralBatches_success() throws Exception {
+        AddressBook original = new AddressBook();
+        int lessonCount = StreamingJsonAddressBookStorage.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < lessonCount; i++) {
+            // a lesson every five minutes from 8am to 6pm on consecutive days
+            original.addLesson(new Lesson(new Subject("CS2109S"), ALICE.getName(),
+                    Date.ofEpochDay(new Date("01-01-2030").toEpochDay() + i / 120),
+                    Time.ofMinuteOfDay(8 * 60 + 5 * (i % 120))));
+        }
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new StreamingJsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new StreamingJsonAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getLessonList(), readBack.getLessonList());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StreamingJsonAddressBookStorage(testFolder.resolve("ab"))
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StreamingJsonAddressBookStorage(testFolder.resolve("ab"))
+                .saveAddressBook(new AddressBook(), null));
+    }
+}
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.ALICE;
+import static seedu.address.testutil.TypicalStudents.BENSON;
+import static seedu.address.testutil.TypicalStudents.HOON;
+import static seedu.address.testutil.TypicalStudents.IDA;
+import static seedu.address.testutil.TypicalStudents.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.datetimeutil.Date;
+import seedu.address.model.student.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage writeBehindStorage;
+
+    @AfterEach
+    public void tearDown() {
+        if (writeBehindStorage != null) {
+            writeBehindStorage.shutdown();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(createStorage(new JsonAddressBookStorage(getTempFilePath("ab"))));
+        AddressBook original = getTypicalAddressBook();
+
+        writeBehindStorage.saveAddressBook(original);
+        writeBehindStorage.flush();
+
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_written_writeTimeReported() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(createStorage(new JsonAddressBookStorage(getTempFilePath("ab"))));
+        List<Long> writeTimes = new ArrayList<>();
+        writeBehindStorage.setWriteTimeHandler(writeTimes::add);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flush();
+
+        assertEquals(1, writeTimes.size());
+        assertTrue(writeTimes.get(0) > 0);
+    }
+
+    @Test
+    public void saveAddressBook_addressBookChangedAfterSave_stateAtSaveWritten() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(createStorage(new JsonAddressBookStorage(getTempFilePath("ab"))));
+        Student student = new StudentBuilder().withAssignment(new Assignment("Essay", new Date("10-01-2030"))).build();
+        AddressBook original = new AddressBook();
+        original.addStudent(student);
+
+        writeBehindStorage.saveAddressBook(original);
+        student.getAssignments().markAssignment("Essay");
+        original.removeStudent(student);
+        writeBehindStorage.flush();
+
+        ReadOnlyAddressBook written = writeBehindStorage.readAddressBook().get();
+        assertEquals(1, written.getStudentList().size());
+        assertFalse(written.getStudentList().get(0).getAssignments().getAssignment("Essay").isDone());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoLatest() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> writes = new ArrayList<>();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writes.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(blockingStorage));
+
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+        // these all arrive while the first write is still in progress
+        for (int i = 0; i < 5; i++) {
+            addressBook.addStudent(new StudentBuilder().withName("Student " + (char) ('A' + i))
+                    .withPhone("9000000" + i).withEmail("student" + i + "@example.com").build());
+            writeBehindStorage.saveAddressBook(addressBook);
+        }
+        firstWriteReleased.countDown();
+        writeBehindStorage.flush();
+
+        assertEquals(2, writes.size());
+        assertEquals(addressBook, new AddressBook(writes.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_saveFails_failureReportedAndRetriedOnFlush() throws Exception {
+        IOException failure = new IOException("disk full");
+        List<IOException> reportedFailures = new ArrayList<>();
+        JsonAddressBookStorage failOnceStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(failOnceStorage));
+        writeBehindStorage.setSaveFailureHandler(reportedFailures::add);
+        AddressBook original = getTypicalAddressBook();
+
+        writeBehindStorage.saveAddressBook(original);
+        writeBehindStorage.flush();
+
+        assertEquals(List.of(failure), reportedFailures);
+        assertEquals(original, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_saveAfterFailedSave_writtenWithoutFlush() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        JsonAddressBookStorage failOnceStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            private boolean hasFailed;
+
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("disk full");
+                }
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(failOnceStorage));
+        writeBehindStorage.setSaveFailureHandler(unused -> failed.countDown());
+        AddressBook addressBook = getTypicalAddressBook();
+
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        writeBehindStorage.saveAddressBook(addressBook);
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(addressBook, new AddressBook(failOnceStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_burstOfSaves_changesCombinedInOrder() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<AddressBookChanges> writes = new ArrayList<>();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+                writes.add(changes);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(blockingStorage));
+        ModelManager model = new ModelManager();
+
+        model.addStudent(ALICE);
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+        // these arrive while the first write is still in progress
+        model.addStudent(BENSON);
+        AddressBookChanges secondChanges = model.takeAddressBookChanges();
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), secondChanges);
+        model.deleteStudent(ALICE);
+        AddressBookChanges thirdChanges = model.takeAddressBookChanges();
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), thirdChanges);
+        firstWriteReleased.countDown();
+        writeBehindStorage.flush();
+
+        assertEquals(2, writes.size());
+        assertEquals(secondChanges.then(thirdChanges), writes.get(1));
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesSavedOnTheirOwn_noSnapshotTaken() throws Exception {
+        List<ReadOnlyAddressBook> addressBooks = new ArrayList<>();
+        List<AddressBookChanges> writes = new ArrayList<>();
+        JsonAddressBookStorage changesOnlyStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+                addressBooks.add(addressBook);
+                writes.add(changes);
+            }
+
+            @Override
+            public boolean isAddressBookNeededToSaveChanges() {
+                return false;
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(changesOnlyStorage));
+        ModelManager model = new ModelManager();
+
+        model.addStudent(ALICE);
+        AddressBookChanges changes = model.takeAddressBookChanges();
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), changes);
+        writeBehindStorage.flush();
+
+        assertEquals(1, addressBooks.size());
+        assertNull(addressBooks.get(0));
+        assertEquals(List.of(changes), writes);
+    }
+
+    @Test
+    public void saveAddressBookChanges_addressBookNeeded_snapshotPassed() throws Exception {
+        List<ReadOnlyAddressBook> addressBooks = new ArrayList<>();
+        JsonAddressBookStorage recordingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+                addressBooks.add(addressBook);
+            }
+        };
+        writeBehindStorage = new WriteBehindStorage(createStorage(recordingStorage));
+        ModelManager model = new ModelManager();
+
+        model.addStudent(ALICE);
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        writeBehindStorage.flush();
+
+        assertEquals(1, addressBooks.size());
+        assertNotSame(model.getAddressBook(), addressBooks.get(0));
+        assertEquals(model.getAddressBook(), new AddressBook(addressBooks.get(0)));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journaledStorage_changesWrittenAndCompacted() throws Exception {
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(getTempFilePath("ab"), 1);
+        journaledStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage = new WriteBehindStorage(createStorage(journaledStorage));
+        ModelManager model = new ModelManager(writeBehindStorage.readAddressBook().get(), new UserPrefs());
+
+        // the first save is journaled on its own, and the second starts a compaction once the journal is too long
+        model.addStudent(HOON);
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        writeBehindStorage.flush();
+        model.addStudent(IDA);
+        writeBehindStorage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        writeBehindStorage.flush();
+        journaledStorage.awaitCompaction();
+
+        assertTrue(new JsonAddressBookStorage(getTempFilePath("ab")).readAddressBook().get()
+                .getStudentList().contains(IDA));
+        assertEquals(model.getAddressBook(), new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getAddressBookFilePath_delegatesToWrappedStorage() {
+        Path filePath = getTempFilePath("ab");
+        writeBehindStorage = new WriteBehindStorage(createStorage(new JsonAddressBookStorage(filePath)));
+        assertEquals(filePath, writeBehindStorage.getAddressBookFilePath());
+    }
+
+    private StorageManager createStorage(AddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+}